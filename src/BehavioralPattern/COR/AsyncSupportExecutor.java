@@ -0,0 +1,144 @@
+package BehavioralPattern.COR;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Runs a handler chain off the caller's thread. Each QueryType has its own bounded
+// queue and workers, so a slow handler only backs up its own type.
+// Futures complete with true once a handler claimed the request, or false when no handler in the
+// chain claimed it or the request was dropped.
+public class AsyncSupportExecutor implements AutoCloseable {
+	private final SupportHandler chain;
+	private final BackPressure backPressure;
+	private final Map<QueryType, BlockingQueue<Request>> queues = new EnumMap<>(QueryType.class);
+	private final List<Thread> workers = new ArrayList<>();
+	private volatile boolean running = true;
+	// Submitters hold the read lock while checking running and enqueueing; close() takes the write
+	// lock, so no request can be enqueued after the workers have been told to finish
+	private final ReadWriteLock shutdown = new ReentrantReadWriteLock();
+
+	private static class Request {
+		final QueryType queryType;
+		final String message;
+		final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+		Request(QueryType queryType, String message) {
+			this.queryType = queryType;
+			this.message = message;
+		}
+	}
+
+	public AsyncSupportExecutor(SupportHandler chain, int queueCapacity, int workersPerType, BackPressure backPressure) {
+		this(chain, queueCapacity, workersPerType, backPressure, runnable -> {
+			Thread thread = new Thread(runnable);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	// Pass Thread.ofVirtual().factory() here on runtimes that have virtual threads
+	public AsyncSupportExecutor(SupportHandler chain, int queueCapacity, int workersPerType,
+			BackPressure backPressure, ThreadFactory threadFactory) {
+		this.chain = new CompiledSupportChain(chain);
+		this.backPressure = backPressure;
+		for (QueryType queryType : QueryType.values()) {
+			BlockingQueue<Request> queue = new ArrayBlockingQueue<>(queueCapacity);
+			queues.put(queryType, queue);
+			for (int i = 0; i < workersPerType; i++) {
+				Thread worker = threadFactory.newThread(() -> work(queue));
+				worker.setName("support-" + queryType.name().toLowerCase() + "-" + i);
+				workers.add(worker);
+				worker.start();
+			}
+		}
+	}
+
+	public CompletableFuture<Boolean> submit(QueryType queryType, String message) {
+		Request request = new Request(queryType, message);
+		shutdown.readLock().lock();
+		try {
+			if (!running) {
+				request.result.completeExceptionally(new RejectedExecutionException("Executor is shut down"));
+				return request.result;
+			}
+			enqueue(request);
+		} finally {
+			shutdown.readLock().unlock();
+		}
+		return request.result;
+	}
+
+	private void enqueue(Request request) {
+		QueryType queryType = request.queryType;
+		BlockingQueue<Request> queue = queues.get(queryType);
+		switch (backPressure) {
+		case BLOCK:
+			try {
+				queue.put(request);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				request.result.completeExceptionally(e);
+			}
+			break;
+		case DROP:
+			if (!queue.offer(request)) {
+				request.result.complete(false);
+			}
+			break;
+		case REJECT:
+			if (!queue.offer(request)) {
+				request.result.completeExceptionally(
+						new RejectedExecutionException("Queue full for " + queryType));
+			}
+			break;
+		}
+	}
+
+	private void work(BlockingQueue<Request> queue) {
+		// Keep draining after shutdown so accepted requests still complete
+		while (running || !queue.isEmpty()) {
+			Request request;
+			try {
+				request = queue.poll(100, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				continue;
+			}
+			if (request == null) {
+				continue;
+			}
+			try {
+				request.result.complete(chain.handleRequest(request.queryType, request.message));
+			} catch (RuntimeException e) {
+				request.result.completeExceptionally(e);
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		shutdown.writeLock().lock();
+		try {
+			running = false;
+		} finally {
+			shutdown.writeLock().unlock();
+		}
+		try {
+			for (Thread worker : workers) {
+				worker.join();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,7 @@
+package BehavioralPattern.COR;
+
+// What AsyncSupportExecutor does when a QueryType queue is full
+public enum BackPressure {
+	BLOCK, DROP, REJECT
+
+}
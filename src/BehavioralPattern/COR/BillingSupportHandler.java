@@ -1,15 +1,21 @@
 package BehavioralPattern.COR;
 
-public class BillingSupportHandler extends SupportHandler{
+public class BillingSupportHandler extends SupportHandler {
+	private static final String PREFIX = "Billing Support: Handling query - ";
 
 	@Override
-	public void handleRequest(QueryType queryType, String message) {
-		if (queryType == QueryType.BILLING) {
-            System.out.println("Billing Support: Handling query - " + message);
-        } else if (nextHandler != null) {
-            nextHandler.handleRequest(queryType, message);
-        }
-		
+	public boolean canHandle(QueryType queryType) {
+		return queryType == QueryType.BILLING;
+	}
+
+	@Override
+	protected void handle(QueryType queryType, String message) {
+		System.out.println(PREFIX + message);
+	}
+
+	@Override
+	protected String prefix() {
+		return PREFIX;
 	}
 
 }
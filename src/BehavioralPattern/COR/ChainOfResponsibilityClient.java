@@ -1,5 +1,7 @@
 package BehavioralPattern.COR;
 
+import java.util.List;
+
 public class ChainOfResponsibilityClient {
 
 	public static void main(String[] args) {
@@ -14,6 +16,29 @@ public class ChainOfResponsibilityClient {
         technicalSupport.handleRequest(QueryType.BILLING, "I have a question about my invoice.");
         technicalSupport.handleRequest(QueryType.GENERAL, "Thank you for your service.");
 
+        // Same chain compiled into a QueryType lookup table
+        SupportHandler compiledChain = new CompiledSupportChain(technicalSupport);
+        compiledChain.handleRequest(QueryType.BILLING, "Can I get a refund?");
+
+        // A burst of queries grouped by QueryType and handled slice by slice
+        technicalSupport.handleBatch(List.of(
+                new SupportQuery(QueryType.GENERAL, "Great app!"),
+                new SupportQuery(QueryType.TECHNICAL, "Login page is blank."),
+                new SupportQuery(QueryType.GENERAL, "Keep it up.")));
+
+        // Same chain with per-handler metrics
+        InstrumentedSupportChain instrumentedChain = new InstrumentedSupportChain(technicalSupport);
+        instrumentedChain.handleRequest(QueryType.GENERAL, "How do I change my password?");
+        instrumentedChain.handleRequest(QueryType.GENERAL, "Where is my order?");
+        for (HandlerStats.Snapshot stats : instrumentedChain.getMetrics().snapshot().getHandlers()) {
+            System.out.println(stats);
+        }
+
+        // Same chain run on per-QueryType worker threads
+        try (AsyncSupportExecutor executor = new AsyncSupportExecutor(technicalSupport, 64, 1, BackPressure.BLOCK)) {
+            executor.submit(QueryType.TECHNICAL, "My router keeps rebooting.").join();
+        }
+
 	}
 
 }
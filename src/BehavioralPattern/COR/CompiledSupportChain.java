@@ -0,0 +1,51 @@
+package BehavioralPattern.COR;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Compiled form of a handler chain: each QueryType is resolved to the first
+// handler that claims it, so a request reaches its handler in one lookup.
+// The chain is read once at compile time; later setNextHandler calls are not seen.
+public class CompiledSupportChain extends SupportHandler {
+	private final Map<QueryType, SupportHandler> handlers = new EnumMap<>(QueryType.class);
+
+	public CompiledSupportChain(SupportHandler head) {
+		for (QueryType queryType : QueryType.values()) {
+			// Walk iteratively so long chains cannot overflow the stack
+			for (SupportHandler handler = head; handler != null; handler = handler.getNextHandler()) {
+				if (handler.canHandle(queryType)) {
+					handlers.put(queryType, handler);
+					break;
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean canHandle(QueryType queryType) {
+		return handlers.containsKey(queryType);
+	}
+
+	@Override
+	protected void handle(QueryType queryType, String message) {
+		handlers.get(queryType).handle(queryType, message);
+	}
+
+	@Override
+	protected void handleAll(QueryType queryType, List<String> messages) {
+		handlers.get(queryType).handleAll(queryType, messages);
+	}
+
+	@Override
+	public boolean handleRequest(QueryType queryType, String message) {
+		SupportHandler handler = handlers.get(queryType);
+		if (handler != null) {
+			handler.handle(queryType, message);
+			return true;
+		}
+		// Types no compiled handler claims fall through, as in the recursive walk
+		return nextHandler != null && nextHandler.handleRequest(queryType, message);
+	}
+
+}
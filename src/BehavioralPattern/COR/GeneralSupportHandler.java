@@ -1,15 +1,21 @@
 package BehavioralPattern.COR;
 
 public class GeneralSupportHandler extends SupportHandler {
+	private static final String PREFIX = "General Support: Handling query - ";
 
 	@Override
-	public void handleRequest(QueryType queryType, String message) {
-		if (queryType == QueryType.GENERAL) {
-            System.out.println("General Support: Handling query - " + message);
-        } else if (nextHandler != null) {
-            nextHandler.handleRequest(queryType, message);
-        }
-		
+	public boolean canHandle(QueryType queryType) {
+		return queryType == QueryType.GENERAL;
+	}
+
+	@Override
+	protected void handle(QueryType queryType, String message) {
+		System.out.println(PREFIX + message);
+	}
+
+	@Override
+	protected String prefix() {
+		return PREFIX;
 	}
 
 }
@@ -0,0 +1,104 @@
+package BehavioralPattern.COR;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Request counts and latencies recorded for one SupportHandler subclass
+public class HandlerStats implements HandlerStatsMXBean {
+	private final String handlerName;
+	private final LongAdder[] countsByType = new LongAdder[QueryType.values().length];
+	private final LatencyHistogram latency = new LatencyHistogram();
+
+	public HandlerStats(String handlerName) {
+		this.handlerName = handlerName;
+		for (int i = 0; i < countsByType.length; i++) {
+			countsByType[i] = new LongAdder();
+		}
+	}
+
+	void record(QueryType queryType, long nanos) {
+		countsByType[queryType.ordinal()].increment();
+		latency.record(nanos);
+	}
+
+	public Snapshot snapshot() {
+		Map<QueryType, Long> counts = new EnumMap<>(QueryType.class);
+		for (QueryType queryType : QueryType.values()) {
+			counts.put(queryType, countsByType[queryType.ordinal()].sum());
+		}
+		return new Snapshot(handlerName, counts, latency.snapshotCounts());
+	}
+
+	@Override
+	public String getHandlerName() {
+		return handlerName;
+	}
+
+	@Override
+	public long getRequestCount() {
+		long total = 0;
+		for (LongAdder count : countsByType) {
+			total += count.sum();
+		}
+		return total;
+	}
+
+	@Override
+	public Map<String, Long> getRequestCountsByQueryType() {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		for (QueryType queryType : QueryType.values()) {
+			counts.put(queryType.name(), countsByType[queryType.ordinal()].sum());
+		}
+		return counts;
+	}
+
+	@Override
+	public long getLatencyP50Nanos() {
+		return LatencyHistogram.valueAtPercentile(latency.snapshotCounts(), 50);
+	}
+
+	@Override
+	public long getLatencyP99Nanos() {
+		return LatencyHistogram.valueAtPercentile(latency.snapshotCounts(), 99);
+	}
+
+	@Override
+	public long getLatencyMaxNanos() {
+		return LatencyHistogram.valueAtPercentile(latency.snapshotCounts(), 100);
+	}
+
+	// Point-in-time copy of a handler's stats
+	public static class Snapshot {
+		private final String handlerName;
+		private final Map<QueryType, Long> countsByType;
+		private final long[] latencyCounts;
+
+		Snapshot(String handlerName, Map<QueryType, Long> countsByType, long[] latencyCounts) {
+			this.handlerName = handlerName;
+			this.countsByType = Collections.unmodifiableMap(countsByType);
+			this.latencyCounts = latencyCounts;
+		}
+
+		public String getHandlerName() {
+			return handlerName;
+		}
+
+		public Map<QueryType, Long> getCountsByType() {
+			return countsByType;
+		}
+
+		public long getLatencyAtPercentile(double percentile) {
+			return LatencyHistogram.valueAtPercentile(latencyCounts, percentile);
+		}
+
+		@Override
+		public String toString() {
+			return handlerName + " " + countsByType + " p50=" + getLatencyAtPercentile(50) + "ns p99="
+					+ getLatencyAtPercentile(99) + "ns max=" + getLatencyAtPercentile(100) + "ns";
+		}
+	}
+
+}
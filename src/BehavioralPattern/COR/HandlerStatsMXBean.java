@@ -0,0 +1,14 @@
+package BehavioralPattern.COR;
+
+import java.util.Map;
+
+// JMX view of one SupportHandler subclass
+public interface HandlerStatsMXBean {
+	String getHandlerName();
+	long getRequestCount();
+	Map<String, Long> getRequestCountsByQueryType();
+	long getLatencyP50Nanos();
+	long getLatencyP99Nanos();
+	long getLatencyMaxNanos();
+
+}
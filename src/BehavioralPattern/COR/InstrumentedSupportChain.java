@@ -0,0 +1,59 @@
+package BehavioralPattern.COR;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Walks a handler chain while recording per-handler counts and latencies, hop depth
+// and fall-off into SupportChainMetrics. The chain is captured when this is built.
+public class InstrumentedSupportChain extends SupportHandler {
+	private final SupportHandler[] handlers;
+	private final HandlerStats[] stats;
+	private final SupportChainMetrics metrics;
+
+	public InstrumentedSupportChain(SupportHandler head) {
+		List<SupportHandler> chain = new ArrayList<>();
+		for (SupportHandler handler = head; handler != null; handler = handler.getNextHandler()) {
+			chain.add(handler);
+		}
+		this.handlers = chain.toArray(new SupportHandler[0]);
+		this.stats = new HandlerStats[handlers.length];
+		this.metrics = new SupportChainMetrics(handlers.length);
+		for (int i = 0; i < handlers.length; i++) {
+			stats[i] = metrics.statsFor(handlers[i]);
+		}
+	}
+
+	public SupportChainMetrics getMetrics() {
+		return metrics;
+	}
+
+	@Override
+	public boolean canHandle(QueryType queryType) {
+		for (SupportHandler handler : handlers) {
+			if (handler.canHandle(queryType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	protected void handle(QueryType queryType, String message) {
+		handleRequest(queryType, message);
+	}
+
+	@Override
+	public boolean handleRequest(QueryType queryType, String message) {
+		for (int hops = 0; hops < handlers.length; hops++) {
+			if (handlers[hops].canHandle(queryType)) {
+				long start = System.nanoTime();
+				handlers[hops].handle(queryType, message);
+				metrics.recordHandled(stats[hops], queryType, System.nanoTime() - start, hops);
+				return true;
+			}
+		}
+		metrics.recordUnhandled();
+		return nextHandler != null && nextHandler.handleRequest(queryType, message);
+	}
+
+}
@@ -0,0 +1,64 @@
+package BehavioralPattern.COR;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// HDR-style log-linear histogram of nanosecond latencies. Each power of two is split into
+// 32 sub-buckets (about 3% precision); recording is a single atomic increment, no allocation.
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 6;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int HALF_COUNT = SUB_BUCKET_COUNT / 2;
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * HALF_COUNT + HALF_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+	static int indexFor(long value) {
+		long v = Math.max(0, value);
+		int magnitude = 64 - Long.numberOfLeadingZeros(v | (SUB_BUCKET_COUNT - 1)) - SUB_BUCKET_BITS;
+		return magnitude * HALF_COUNT + (int) (v >>> magnitude);
+	}
+
+	// Largest value that falls into the given bucket
+	static long highestValueAt(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int magnitude = index / HALF_COUNT - 1;
+		long subBucket = index - (long) magnitude * HALF_COUNT;
+		return ((subBucket + 1) << magnitude) - 1;
+	}
+
+	public void record(long nanos) {
+		counts.incrementAndGet(indexFor(nanos));
+	}
+
+	// Copies the bucket counts; the copy can be read without racing recorders
+	public long[] snapshotCounts() {
+		long[] copy = new long[BUCKET_COUNT];
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			copy[i] = counts.get(i);
+		}
+		return copy;
+	}
+
+	// Value at the given percentile (0-100) of a snapshot taken with snapshotCounts()
+	public static long valueAtPercentile(long[] snapshot, double percentile) {
+		long total = 0;
+		for (long count : snapshot) {
+			total += count;
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+		long seen = 0;
+		for (int i = 0; i < snapshot.length; i++) {
+			seen += snapshot[i];
+			if (seen >= target) {
+				return highestValueAt(i);
+			}
+		}
+		return highestValueAt(snapshot.length - 1);
+	}
+
+}
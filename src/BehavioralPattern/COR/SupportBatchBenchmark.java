@@ -0,0 +1,70 @@
+package BehavioralPattern.COR;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// Compares per-request handleRequest with handleBatch for batch sizes from 1 to 100k.
+// Console output is redirected to a null stream so only the printing calls are timed, not the terminal.
+public class SupportBatchBenchmark {
+	private static final int[] BATCH_SIZES = { 1, 10, 100, 1_000, 10_000, 100_000 };
+	private static final int QUERIES_PER_SIZE = 1_000_000;
+
+	static List<SupportQuery> buildBatch(int size) {
+		QueryType[] types = QueryType.values();
+		List<SupportQuery> batch = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			batch.add(new SupportQuery(types[i % types.length], "query " + i));
+		}
+		return batch;
+	}
+
+	static long runSingle(SupportHandler chain, List<SupportQuery> batch, int rounds) {
+		long start = System.nanoTime();
+		for (int r = 0; r < rounds; r++) {
+			for (SupportQuery query : batch) {
+				chain.handleRequest(query.getQueryType(), query.getMessage());
+			}
+		}
+		return System.nanoTime() - start;
+	}
+
+	static long runBatch(SupportHandler chain, List<SupportQuery> batch, int rounds) {
+		long start = System.nanoTime();
+		for (int r = 0; r < rounds; r++) {
+			chain.handleBatch(batch);
+		}
+		return System.nanoTime() - start;
+	}
+
+	public static void main(String[] args) {
+		TechnicalSupportHandler technicalSupport = new TechnicalSupportHandler();
+		BillingSupportHandler billingSupport = new BillingSupportHandler();
+		GeneralSupportHandler generalSupport = new GeneralSupportHandler();
+		technicalSupport.setNextHandler(billingSupport);
+		billingSupport.setNextHandler(generalSupport);
+
+		PrintStream console = System.out;
+		System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+		try {
+			console.printf("%-10s %18s %18s%n", "batch", "single queries/s", "batch queries/s");
+			for (int size : BATCH_SIZES) {
+				List<SupportQuery> batch = buildBatch(size);
+				int rounds = Math.max(1, QUERIES_PER_SIZE / size);
+
+				// Warm up both paths before measuring
+				runSingle(technicalSupport, batch, rounds);
+				runBatch(technicalSupport, batch, rounds);
+
+				long queries = (long) rounds * size;
+				double single = queries * 1e9 / runSingle(technicalSupport, batch, rounds);
+				double batched = queries * 1e9 / runBatch(technicalSupport, batch, rounds);
+				console.printf("%-10d %18.0f %18.0f%n", size, single, batched);
+			}
+		} finally {
+			System.setOut(console);
+		}
+	}
+
+}
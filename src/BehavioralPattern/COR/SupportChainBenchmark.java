@@ -0,0 +1,81 @@
+package BehavioralPattern.COR;
+
+// Compares the recursive chain walk with CompiledSupportChain at several chain lengths.
+// Handlers only count requests so console output does not dominate the timings.
+public class SupportChainBenchmark {
+	private static final int REQUESTS = 3_000_000;
+	private static final int[] CHAIN_LENGTHS = { 3, 30, 300 };
+
+	// Handler that claims one query type and only counts what it receives
+	static class CountingHandler extends SupportHandler {
+		private final QueryType queryType;
+		long handled;
+
+		CountingHandler(QueryType queryType) {
+			this.queryType = queryType;
+		}
+
+		@Override
+		public boolean canHandle(QueryType type) {
+			return type == queryType;
+		}
+
+		@Override
+		protected void handle(QueryType type, String message) {
+			handled++;
+		}
+	}
+
+	// Handler that claims nothing, used to pad the chain to the requested length
+	static class PassThroughHandler extends SupportHandler {
+		@Override
+		public boolean canHandle(QueryType type) {
+			return false;
+		}
+
+		@Override
+		protected void handle(QueryType type, String message) {
+		}
+	}
+
+	// Builds a chain of the given length whose last three handlers are the claiming ones
+	static SupportHandler buildChain(int length) {
+		QueryType[] types = QueryType.values();
+		SupportHandler[] chain = new SupportHandler[length];
+		for (int i = 0; i < length; i++) {
+			int claimIndex = i - (length - types.length);
+			chain[i] = claimIndex >= 0 ? new CountingHandler(types[claimIndex]) : new PassThroughHandler();
+			if (i > 0) {
+				chain[i - 1].setNextHandler(chain[i]);
+			}
+		}
+		return chain[0];
+	}
+
+	static long run(SupportHandler handler, int requests) {
+		QueryType[] types = QueryType.values();
+		long start = System.nanoTime();
+		for (int i = 0; i < requests; i++) {
+			handler.handleRequest(types[i % types.length], "benchmark");
+		}
+		return System.nanoTime() - start;
+	}
+
+	public static void main(String[] args) {
+		System.out.printf("%-8s %15s %15s%n", "length", "recursive ns/op", "compiled ns/op");
+		for (int length : CHAIN_LENGTHS) {
+			SupportHandler recursive = buildChain(length);
+			SupportHandler compiled = new CompiledSupportChain(recursive);
+			int requests = REQUESTS / length * 3;
+
+			// Warm up both paths before measuring
+			run(recursive, requests);
+			run(compiled, requests);
+
+			double recursiveNs = (double) run(recursive, requests) / requests;
+			double compiledNs = (double) run(compiled, requests) / requests;
+			System.out.printf("%-8d %15.2f %15.2f%n", length, recursiveNs, compiledNs);
+		}
+	}
+
+}
@@ -0,0 +1,104 @@
+package BehavioralPattern.COR;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// Metrics for one instrumented chain: per-subclass HandlerStats, how many hops each
+// handled request took, and how many requests fell off the end of the chain.
+public class SupportChainMetrics implements SupportChainMetricsMXBean {
+	private final Map<String, HandlerStats> handlerStats = new LinkedHashMap<>();
+	private final AtomicLongArray hopCounts;
+	private final LongAdder unhandled = new LongAdder();
+
+	SupportChainMetrics(int chainLength) {
+		this.hopCounts = new AtomicLongArray(chainLength);
+	}
+
+	// Returns the shared stats for a handler subclass, creating them while the chain is being wired
+	HandlerStats statsFor(SupportHandler handler) {
+		return handlerStats.computeIfAbsent(handler.getClass().getSimpleName(), HandlerStats::new);
+	}
+
+	void recordHandled(HandlerStats stats, QueryType queryType, long nanos, int hops) {
+		stats.record(queryType, nanos);
+		hopCounts.incrementAndGet(hops);
+	}
+
+	void recordUnhandled() {
+		unhandled.increment();
+	}
+
+	public Collection<HandlerStats> getHandlerStats() {
+		return Collections.unmodifiableCollection(handlerStats.values());
+	}
+
+	@Override
+	public long[] getHopCounts() {
+		long[] copy = new long[hopCounts.length()];
+		for (int i = 0; i < copy.length; i++) {
+			copy[i] = hopCounts.get(i);
+		}
+		return copy;
+	}
+
+	@Override
+	public long getUnhandledCount() {
+		return unhandled.sum();
+	}
+
+	public Snapshot snapshot() {
+		List<HandlerStats.Snapshot> handlers = new ArrayList<>();
+		for (HandlerStats stats : handlerStats.values()) {
+			handlers.add(stats.snapshot());
+		}
+		return new Snapshot(handlers, getHopCounts(), getUnhandledCount());
+	}
+
+	// Registers this chain and each handler's stats with the platform MBean server
+	public void registerMBeans(String chainName) throws JMException {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		String domain = getClass().getPackageName();
+		server.registerMBean(this, new ObjectName(domain + ":type=SupportChain,name=" + chainName));
+		for (HandlerStats stats : handlerStats.values()) {
+			server.registerMBean(stats, new ObjectName(
+					domain + ":type=SupportHandler,chain=" + chainName + ",name=" + stats.getHandlerName()));
+		}
+	}
+
+	// Point-in-time copy of a chain's metrics
+	public static class Snapshot {
+		private final List<HandlerStats.Snapshot> handlers;
+		private final long[] hopCounts;
+		private final long unhandledCount;
+
+		Snapshot(List<HandlerStats.Snapshot> handlers, long[] hopCounts, long unhandledCount) {
+			this.handlers = Collections.unmodifiableList(handlers);
+			this.hopCounts = hopCounts;
+			this.unhandledCount = unhandledCount;
+		}
+
+		public List<HandlerStats.Snapshot> getHandlers() {
+			return handlers;
+		}
+
+		public long[] getHopCounts() {
+			return hopCounts.clone();
+		}
+
+		public long getUnhandledCount() {
+			return unhandledCount;
+		}
+	}
+
+}
@@ -0,0 +1,8 @@
+package BehavioralPattern.COR;
+
+// JMX view of chain-wide routing figures
+public interface SupportChainMetricsMXBean {
+	long[] getHopCounts();
+	long getUnhandledCount();
+
+}
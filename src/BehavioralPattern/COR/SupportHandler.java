@@ -1,5 +1,10 @@
 package BehavioralPattern.COR;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
 public abstract class SupportHandler {
 	protected SupportHandler nextHandler;
 
@@ -7,6 +12,61 @@ public abstract class SupportHandler {
         this.nextHandler = nextHandler;
     }
 
-    public abstract void handleRequest(QueryType queryType, String message);
+    public SupportHandler getNextHandler() {
+        return nextHandler;
+    }
+
+    // Whether this handler claims the given query type
+    public abstract boolean canHandle(QueryType queryType);
+
+    // Handles a query this handler has claimed
+    protected abstract void handle(QueryType queryType, String message);
+
+    // Text a handler prints before each message it handles, or null for handlers that don't print
+    protected String prefix() {
+        return null;
+    }
+
+    // Handles every claimed query of one type. Printing handlers write the whole slice with one
+    // print call; handlers may override to work on the slice at once in other ways.
+    protected void handleAll(QueryType queryType, List<String> messages) {
+        String prefix = prefix();
+        if (prefix == null) {
+            for (String message : messages) {
+                handle(queryType, message);
+            }
+            return;
+        }
+        StringBuilder block = new StringBuilder(messages.size() * (prefix.length() + 32));
+        for (String message : messages) {
+            block.append(prefix).append(message).append(System.lineSeparator());
+        }
+        System.out.print(block);
+    }
+
+    // Returns whether some handler in the chain claimed the query
+    public boolean handleRequest(QueryType queryType, String message) {
+        if (canHandle(queryType)) {
+            handle(queryType, message);
+            return true;
+        }
+        return nextHandler != null && nextHandler.handleRequest(queryType, message);
+    }
+
+    // Groups the batch by QueryType and hands each slice to its claiming handler in one call
+    public void handleBatch(List<SupportQuery> queries) {
+        Map<QueryType, List<String>> slices = new EnumMap<>(QueryType.class);
+        for (SupportQuery query : queries) {
+            slices.computeIfAbsent(query.getQueryType(), type -> new ArrayList<>()).add(query.getMessage());
+        }
+        for (Map.Entry<QueryType, List<String>> slice : slices.entrySet()) {
+            for (SupportHandler handler = this; handler != null; handler = handler.nextHandler) {
+                if (handler.canHandle(slice.getKey())) {
+                    handler.handleAll(slice.getKey(), slice.getValue());
+                    break;
+                }
+            }
+        }
+    }
 
 }
@@ -0,0 +1,21 @@
+package BehavioralPattern.COR;
+
+// A single support query, as carried in a batch
+public class SupportQuery {
+	private final QueryType queryType;
+	private final String message;
+
+	public SupportQuery(QueryType queryType, String message) {
+		this.queryType = queryType;
+		this.message = message;
+	}
+
+	public QueryType getQueryType() {
+		return queryType;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+}
@@ -1,15 +1,21 @@
 package BehavioralPattern.COR;
 
 public class TechnicalSupportHandler extends SupportHandler {
+	private static final String PREFIX = "Technical Support: Handling query - ";
 
 	@Override
-	public void handleRequest(QueryType queryType, String message) {
-		if (queryType == QueryType.TECHNICAL) {
-            System.out.println("Technical Support: Handling query - " + message);
-        } else if (nextHandler != null) {
-            nextHandler.handleRequest(queryType, message);
-        }
-		
+	public boolean canHandle(QueryType queryType) {
+		return queryType == QueryType.TECHNICAL;
+	}
+
+	@Override
+	protected void handle(QueryType queryType, String message) {
+		System.out.println(PREFIX + message);
+	}
+
+	@Override
+	protected String prefix() {
+		return PREFIX;
 	}
 
 }
@@ -0,0 +1,7 @@
+package BehavioralPattern.observer;
+
+// Subscribes to window aggregates instead of raw readings
+public interface AggregateObserver {
+    void update(WindowAggregate aggregate);
+
+}
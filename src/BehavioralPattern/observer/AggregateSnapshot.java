@@ -0,0 +1,79 @@
+package BehavioralPattern.observer;
+
+// Immutable WindowAggregate values taken when a reading was recorded
+final class AggregateSnapshot implements WindowAggregate {
+    private final int windowSize, count;
+    private final float minTemperature, maxTemperature, meanTemperature;
+    private final float minHumidity, maxHumidity, meanHumidity;
+    private final float minPressure, maxPressure, meanPressure;
+
+    AggregateSnapshot(int windowSize, SlidingWindow temperature, SlidingWindow humidity, SlidingWindow pressure) {
+        this.windowSize = windowSize;
+        this.count = temperature.count();
+        this.minTemperature = temperature.min();
+        this.maxTemperature = temperature.max();
+        this.meanTemperature = temperature.mean();
+        this.minHumidity = humidity.min();
+        this.maxHumidity = humidity.max();
+        this.meanHumidity = humidity.mean();
+        this.minPressure = pressure.min();
+        this.maxPressure = pressure.max();
+        this.meanPressure = pressure.mean();
+    }
+
+    @Override
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public float getMinTemperature() {
+        return minTemperature;
+    }
+
+    @Override
+    public float getMaxTemperature() {
+        return maxTemperature;
+    }
+
+    @Override
+    public float getMeanTemperature() {
+        return meanTemperature;
+    }
+
+    @Override
+    public float getMinHumidity() {
+        return minHumidity;
+    }
+
+    @Override
+    public float getMaxHumidity() {
+        return maxHumidity;
+    }
+
+    @Override
+    public float getMeanHumidity() {
+        return meanHumidity;
+    }
+
+    @Override
+    public float getMinPressure() {
+        return minPressure;
+    }
+
+    @Override
+    public float getMaxPressure() {
+        return maxPressure;
+    }
+
+    @Override
+    public float getMeanPressure() {
+        return meanPressure;
+    }
+
+}
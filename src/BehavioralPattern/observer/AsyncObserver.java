@@ -0,0 +1,138 @@
+package BehavioralPattern.observer;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Observer decorator that moves delivery onto its own thread. update() only copies the three
+// floats into pre-allocated storage and returns, so a slow observer never holds up the station.
+// EVERY_READING keeps a multi-producer ring and drops new readings while it is full;
+// LATEST_ONLY keeps a single seqlock slot that each reading overwrites.
+public class AsyncObserver implements Observer, AutoCloseable {
+    private final Observer delegate;
+    private final DeliveryMode mode;
+    private final Thread consumer;
+    private volatile boolean running = true;
+
+    // EVERY_READING: slot i holds readings[3i..3i+2], published[i] is the sequence it holds
+    private final int mask;
+    private final float[] readings;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    // LATEST_ONLY: even version means the slot is stable, odd means a producer is writing
+    private final AtomicLong version = new AtomicLong();
+    private float latestTemperature, latestHumidity, latestPressure;
+
+    public AsyncObserver(Observer delegate, DeliveryMode mode, int capacity) {
+        this.delegate = delegate;
+        this.mode = mode;
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.readings = new float[mode == DeliveryMode.EVERY_READING ? size * 3 : 0];
+        this.published = new AtomicLongArray(mode == DeliveryMode.EVERY_READING ? size : 0);
+        for (int i = 0; i < published.length(); i++) {
+            published.set(i, -1);
+        }
+        this.consumer = new Thread(mode == DeliveryMode.EVERY_READING ? this::drainRing : this::drainLatest);
+        consumer.setName("async-observer-" + delegate.getClass().getSimpleName());
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @Override
+    public void update(float temperature, float humidity, float pressure) {
+        if (mode == DeliveryMode.EVERY_READING) {
+            offer(temperature, humidity, pressure);
+        } else {
+            overwrite(temperature, humidity, pressure);
+        }
+        LockSupport.unpark(consumer);
+    }
+
+    // Readings rejected because the ring was full (EVERY_READING only)
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void offer(float temperature, float humidity, float pressure) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() > mask) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        int base = (int) (sequence & mask) * 3;
+        readings[base] = temperature;
+        readings[base + 1] = humidity;
+        readings[base + 2] = pressure;
+        published.set((int) (sequence & mask), sequence);
+    }
+
+    private void drainRing() {
+        long next = 0;
+        while (running) {
+            int slot = (int) (next & mask);
+            if (published.get(slot) != next) {
+                LockSupport.parkNanos(1_000_000);
+                continue;
+            }
+            int base = slot * 3;
+            float temperature = readings[base];
+            float humidity = readings[base + 1];
+            float pressure = readings[base + 2];
+            consumed.set(++next);
+            delegate.update(temperature, humidity, pressure);
+        }
+    }
+
+    private void overwrite(float temperature, float humidity, float pressure) {
+        long stable;
+        do {
+            stable = version.get();
+            // Another producer is mid-write; it finishes without waiting on the consumer
+            if ((stable & 1) != 0) {
+                Thread.onSpinWait();
+                stable = -1;
+            }
+        } while (stable < 0 || !version.compareAndSet(stable, stable + 1));
+        VarHandle.storeStoreFence();
+        latestTemperature = temperature;
+        latestHumidity = humidity;
+        latestPressure = pressure;
+        version.set(stable + 2);
+    }
+
+    private void drainLatest() {
+        long delivered = 0;
+        while (running) {
+            long before = version.get();
+            if (before == delivered || (before & 1) != 0) {
+                LockSupport.parkNanos(1_000_000);
+                continue;
+            }
+            float temperature = latestTemperature;
+            float humidity = latestHumidity;
+            float pressure = latestPressure;
+            VarHandle.loadLoadFence();
+            if (version.get() != before) {
+                continue;
+            }
+            delivered = before;
+            delegate.update(temperature, humidity, pressure);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(consumer);
+    }
+
+}
@@ -0,0 +1,7 @@
+package BehavioralPattern.observer;
+
+// How an AsyncObserver delivers readings when its observer falls behind
+public enum DeliveryMode {
+    EVERY_READING, LATEST_ONLY
+
+}
@@ -0,0 +1,99 @@
+package BehavioralPattern.observer;
+
+import java.util.Arrays;
+
+// A contiguous block of stations in a WeatherStationHub with its own lock, its own
+// double-buffered readings and its own observer registry.
+class HubStripe {
+    private static final StationObserver[] NONE = new StationObserver[0];
+
+    private final int firstStationId;
+    private final int size;
+    // Readings accumulate in `pending` and are swapped into `delivering` once per cycle
+    private float[] pending, delivering;
+    private long[] pendingDirty, deliveringDirty;
+    private volatile StationObserver[][] subscribers;
+
+    HubStripe(int firstStationId, int size) {
+        this.firstStationId = firstStationId;
+        this.size = size;
+        this.pending = new float[size * 3];
+        this.delivering = new float[size * 3];
+        this.pendingDirty = new long[(size + 63) >>> 6];
+        this.deliveringDirty = new long[pendingDirty.length];
+        StationObserver[][] empty = new StationObserver[size][];
+        Arrays.fill(empty, NONE);
+        this.subscribers = empty;
+    }
+
+    // Later readings for the same station in one cycle replace earlier ones
+    synchronized void setMeasurements(int local, float temperature, float humidity, float pressure) {
+        int base = local * 3;
+        pending[base] = temperature;
+        pending[base + 1] = humidity;
+        pending[base + 2] = pressure;
+        pendingDirty[local >>> 6] |= 1L << local;
+    }
+
+    synchronized void subscribe(int local, StationObserver observer) {
+        StationObserver[][] copy = subscribers.clone();
+        StationObserver[] current = copy[local];
+        StationObserver[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = observer;
+        copy[local] = grown;
+        subscribers = copy;
+    }
+
+    synchronized void unsubscribe(StationObserver observer) {
+        StationObserver[][] copy = subscribers.clone();
+        boolean changed = false;
+        for (int local = 0; local < size; local++) {
+            StationObserver[] current = copy[local];
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].equals(observer)) {
+                    StationObserver[] shrunk = new StationObserver[current.length - 1];
+                    System.arraycopy(current, 0, shrunk, 0, i);
+                    System.arraycopy(current, i + 1, shrunk, i, current.length - i - 1);
+                    copy[local] = shrunk.length == 0 ? NONE : shrunk;
+                    changed = true;
+                    break;
+                }
+            }
+        }
+        if (changed) {
+            subscribers = copy;
+        }
+    }
+
+    private synchronized void swap() {
+        float[] readings = pending;
+        pending = delivering;
+        delivering = readings;
+        long[] dirty = pendingDirty;
+        pendingDirty = deliveringDirty;
+        deliveringDirty = dirty;
+    }
+
+    // Delivers every station that changed since the last cycle; returns the updates delivered.
+    // Only one cycle may run per stripe at a time, which WeatherStationHub guarantees.
+    long deliver() {
+        swap();
+        StationObserver[][] registry = subscribers;
+        long delivered = 0;
+        for (int word = 0; word < deliveringDirty.length; word++) {
+            long bits = deliveringDirty[word];
+            deliveringDirty[word] = 0;
+            while (bits != 0) {
+                int local = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                int base = local * 3;
+                for (StationObserver observer : registry[local]) {
+                    observer.update(firstStationId + local, delivering[base], delivering[base + 1], delivering[base + 2]);
+                    delivered++;
+                }
+            }
+        }
+        return delivered;
+    }
+
+}
@@ -0,0 +1,83 @@
+package BehavioralPattern.observer;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+
+// Fixed-capacity ring of past readings kept in primitive columns, on the heap or off-heap.
+// Readings are addressed by sequence number; only the last `capacity` ones are retained.
+public class MeasurementHistory {
+    static final int TEMPERATURE = 0, HUMIDITY = 1, PRESSURE = 2;
+
+    private final int capacity;
+    private final FloatBuffer[] fields = new FloatBuffer[3];
+    private final LongBuffer timestamps;
+    private long count;
+
+    public MeasurementHistory(int capacity, boolean offHeap) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = offHeap ? ByteBuffer.allocateDirect(capacity * Float.BYTES).asFloatBuffer()
+                    : FloatBuffer.wrap(new float[capacity]);
+        }
+        this.timestamps = offHeap ? ByteBuffer.allocateDirect(capacity * Long.BYTES).asLongBuffer()
+                : LongBuffer.wrap(new long[capacity]);
+    }
+
+    // Stores a reading and returns its sequence number
+    long append(float temperature, float humidity, float pressure, long timestampMillis) {
+        int slot = (int) (count % capacity);
+        fields[TEMPERATURE].put(slot, temperature);
+        fields[HUMIDITY].put(slot, humidity);
+        fields[PRESSURE].put(slot, pressure);
+        timestamps.put(slot, timestampMillis);
+        return count++;
+    }
+
+    float value(int field, long sequence) {
+        return fields[field].get((int) (sequence % capacity));
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // Total readings ever appended; the next reading gets this sequence number
+    public long getCount() {
+        return count;
+    }
+
+    public boolean contains(long sequence) {
+        return sequence >= 0 && sequence < count && sequence >= count - capacity;
+    }
+
+    public float getTemperature(long sequence) {
+        return checked(TEMPERATURE, sequence);
+    }
+
+    public float getHumidity(long sequence) {
+        return checked(HUMIDITY, sequence);
+    }
+
+    public float getPressure(long sequence) {
+        return checked(PRESSURE, sequence);
+    }
+
+    public long getTimestamp(long sequence) {
+        if (!contains(sequence)) {
+            throw new IndexOutOfBoundsException("Reading " + sequence + " is not retained");
+        }
+        return timestamps.get((int) (sequence % capacity));
+    }
+
+    private float checked(int field, long sequence) {
+        if (!contains(sequence)) {
+            throw new IndexOutOfBoundsException("Reading " + sequence + " is not retained");
+        }
+        return value(field, sequence);
+    }
+
+}
@@ -0,0 +1,27 @@
+package BehavioralPattern.observer;
+
+// One immutable weather reading, so the three values are always published together
+public final class Measurements {
+    private final float temperature;
+    private final float humidity;
+    private final float pressure;
+
+    public Measurements(float temperature, float humidity, float pressure) {
+        this.temperature = temperature;
+        this.humidity = humidity;
+        this.pressure = pressure;
+    }
+
+    public float getTemperature() {
+        return temperature;
+    }
+
+    public float getHumidity() {
+        return humidity;
+    }
+
+    public float getPressure() {
+        return pressure;
+    }
+
+}
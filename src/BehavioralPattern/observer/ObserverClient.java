@@ -5,6 +5,34 @@ public class ObserverClient {
         WeatherStation ws = new WeatherStation();
         CurrentConditionsDisplay currentDisplay = new CurrentConditionsDisplay(ws);
         ws.setMeasurements(30.0f, 65f, 1013.1f);
+
+        // Same display fed from its own thread, so it cannot slow the station down
+        ws.removeObserver(currentDisplay);
+        try (AsyncObserver asyncDisplay = new AsyncObserver(currentDisplay, DeliveryMode.LATEST_ONLY, 16)) {
+            ws.registerObserver(asyncDisplay);
+            ws.setMeasurements(31.5f, 60f, 1012.4f);
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Station with rolling history, reporting a 3-reading window instead of raw ticks
+        WeatherStation historyStation = new WeatherStation(1024, false);
+        historyStation.registerAggregateObserver(aggregate -> System.out.println("Last " + aggregate.getCount()
+                + " readings: min " + aggregate.getMinTemperature() + "F, max " + aggregate.getMaxTemperature()
+                + "F, mean " + aggregate.getMeanTemperature() + "F"), 3);
+        historyStation.setMeasurements(28.0f, 70f, 1011.0f);
+        historyStation.setMeasurements(29.5f, 68f, 1011.8f);
+        historyStation.setMeasurements(27.0f, 72f, 1010.2f);
+        historyStation.setMeasurements(31.0f, 66f, 1012.9f);
+
+        // Display that only cares about temperature moves of more than half a degree
+        WeatherStation filteredStation = new WeatherStation();
+        filteredStation.registerObserver(currentDisplay, 0.5f, Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY);
+        filteredStation.setMeasurements(30.0f, 65f, 1013.1f);
+        filteredStation.setMeasurements(30.2f, 55f, 1013.0f);
+        filteredStation.setMeasurements(30.9f, 50f, 1012.7f);
+        System.out.println("Suppressed updates: " + filteredStation.getSuppressedCount());
     }
     
 }
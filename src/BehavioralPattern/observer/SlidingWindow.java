@@ -0,0 +1,68 @@
+package BehavioralPattern.observer;
+
+// Min, max and mean of one field over the last `size` readings, updated in amortized O(1).
+// Monotonic deques hold sequence numbers; values are read back from the history.
+class SlidingWindow {
+    private final MeasurementHistory history;
+    private final int field;
+    private final int size;
+    // First reading this window saw; older readings were never added to sum or the deques
+    private final long startSequence;
+    private final long[] minQueue, maxQueue;
+    private int minHead, minLength, maxHead, maxLength;
+    private double sum;
+    private long latest = -1;
+
+    SlidingWindow(MeasurementHistory history, int field, int size, long startSequence) {
+        this.history = history;
+        this.field = field;
+        this.size = size;
+        this.startSequence = startSequence;
+        this.minQueue = new long[size];
+        this.maxQueue = new long[size];
+    }
+
+    // Must be called before the reading is appended, while the evicted reading is still retained
+    void add(long sequence, float value) {
+        long evicted = sequence - size;
+        sum += value;
+        if (evicted >= startSequence) {
+            sum -= history.value(field, evicted);
+        }
+        while (minLength > 0 && history.value(field, minQueue[(minHead + minLength - 1) % size]) >= value) {
+            minLength--;
+        }
+        while (maxLength > 0 && history.value(field, maxQueue[(maxHead + maxLength - 1) % size]) <= value) {
+            maxLength--;
+        }
+        if (minLength > 0 && minQueue[minHead] <= evicted) {
+            minHead = (minHead + 1) % size;
+            minLength--;
+        }
+        if (maxLength > 0 && maxQueue[maxHead] <= evicted) {
+            maxHead = (maxHead + 1) % size;
+            maxLength--;
+        }
+        minQueue[(minHead + minLength++) % size] = sequence;
+        maxQueue[(maxHead + maxLength++) % size] = sequence;
+        latest = sequence;
+    }
+
+    // Read only after the reading passed to add() has been appended to the history
+    float min() {
+        return latest < 0 ? Float.NaN : history.value(field, minQueue[minHead]);
+    }
+
+    float max() {
+        return latest < 0 ? Float.NaN : history.value(field, maxQueue[maxHead]);
+    }
+
+    float mean() {
+        return latest < 0 ? Float.NaN : (float) (sum / count());
+    }
+
+    int count() {
+        return (int) Math.min(size, latest - startSequence + 1);
+    }
+
+}
@@ -0,0 +1,12 @@
+package BehavioralPattern.observer;
+
+// Observer of one or more stations in a WeatherStationHub.
+//
+// The hub delivers its 256-station stripes in parallel, so an observer subscribed to stations in
+// more than one stripe may have update() called concurrently from several ForkJoinPool threads
+// within one notification cycle, and must be thread-safe. Updates for a single station are never
+// concurrent, and every update of one cycle happens-before those of the next.
+public interface StationObserver {
+    void update(int stationId, float temperature, float humidity, float pressure);
+
+}
@@ -0,0 +1,69 @@
+package BehavioralPattern.observer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// An observer registered with a WeatherStation, plus its optional dead-bands and rate limit.
+// A reading is delivered when any field moved more than its band since the last delivery
+// and the rate limit allows it; rejected readings are counted, not queued.
+class Subscription {
+    final Observer observer;
+    private final boolean filtered;
+    private final float temperatureBand, humidityBand, pressureBand;
+    private final long minIntervalNanos;
+    private final AtomicLong nextDeliveryNanos = new AtomicLong(Long.MIN_VALUE);
+    final LongAdder suppressed = new LongAdder();
+
+    // Racing setMeasurements calls may both compare against the same last delivery
+    private boolean delivered;
+    private float lastTemperature, lastHumidity, lastPressure;
+
+    Subscription(Observer observer) {
+        this.observer = observer;
+        this.filtered = false;
+        this.temperatureBand = this.humidityBand = this.pressureBand = 0f;
+        this.minIntervalNanos = 0;
+    }
+
+    Subscription(Observer observer, float temperatureBand, float humidityBand, float pressureBand,
+            double maxDeliveriesPerSecond) {
+        if (!(maxDeliveriesPerSecond > 0)) {
+            throw new IllegalArgumentException("Delivery rate must be positive: " + maxDeliveriesPerSecond);
+        }
+        this.observer = observer;
+        this.filtered = true;
+        this.temperatureBand = temperatureBand;
+        this.humidityBand = humidityBand;
+        this.pressureBand = pressureBand;
+        this.minIntervalNanos = Double.isInfinite(maxDeliveriesPerSecond) ? 0
+                : (long) (1_000_000_000L / maxDeliveriesPerSecond);
+    }
+
+    // Returns whether the reading should be delivered, recording it as the last delivery if so
+    boolean accept(float temperature, float humidity, float pressure) {
+        if (!filtered) {
+            return true;
+        }
+        if (delivered && Math.abs(temperature - lastTemperature) <= temperatureBand
+                && Math.abs(humidity - lastHumidity) <= humidityBand
+                && Math.abs(pressure - lastPressure) <= pressureBand) {
+            suppressed.increment();
+            return false;
+        }
+        if (minIntervalNanos > 0) {
+            long now = System.nanoTime();
+            long next = nextDeliveryNanos.get();
+            if ((next != Long.MIN_VALUE && now - next < 0)
+                    || !nextDeliveryNanos.compareAndSet(next, now + minIntervalNanos)) {
+                suppressed.increment();
+                return false;
+            }
+        }
+        lastTemperature = temperature;
+        lastHumidity = humidity;
+        lastPressure = pressure;
+        delivered = true;
+        return true;
+    }
+
+}
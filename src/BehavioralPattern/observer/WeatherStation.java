@@ -2,38 +2,165 @@ package BehavioralPattern.observer;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+// Thread-safe subject: observers live in a copy-on-write list, so notification iterates a
+// snapshot without locking, and each reading is published as one immutable Measurements.
 public class WeatherStation implements Subject{
-    @SuppressWarnings("unused")
-    private List<Observer> observers = new ArrayList<>();
-    private float temperature, humidity, pressure;
+    private final List<Subscription> observers = new CopyOnWriteArrayList<>();
+    private volatile Measurements measurements = new Measurements(0f, 0f, 0f);
+    // Optional rolling history; guarded by its own monitor since window state is not thread-safe
+    private final MeasurementHistory history;
+    private final List<WindowAggregator> aggregators = new ArrayList<>();
+
+    public WeatherStation() {
+        this.history = null;
+    }
+
+    // Keeps the last historyCapacity readings, off-heap if requested, for history and window aggregates
+    public WeatherStation(int historyCapacity, boolean offHeap) {
+        this.history = new MeasurementHistory(historyCapacity, offHeap);
+    }
 
     @Override
     public void registerObserver(Observer o) {
-        observers.add(o);
+        observers.add(new Subscription(o));
+    }
+
+    // Notifies o only when some field moved more than its dead-band since o's last update.
+    // Pass Float.POSITIVE_INFINITY to ignore a field.
+    public void registerObserver(Observer o, float temperatureBand, float humidityBand, float pressureBand) {
+        registerObserver(o, temperatureBand, humidityBand, pressureBand, Double.POSITIVE_INFINITY);
+    }
+
+    // As above, and at most maxDeliveriesPerSecond updates to o; readings over the rate are dropped
+    public void registerObserver(Observer o, float temperatureBand, float humidityBand, float pressureBand,
+            double maxDeliveriesPerSecond) {
+        observers.add(new Subscription(o, temperatureBand, humidityBand, pressureBand, maxDeliveriesPerSecond));
     }
 
     @Override
     public void removeObserver(Observer o) {
-        observers.remove(o);
+        for (Subscription subscription : observers) {
+            if (subscription.observer.equals(o)) {
+                observers.remove(subscription);
+                return;
+            }
+        }
+    }
+
+    // Updates withheld from all observers by their dead-bands or rate limits
+    public long getSuppressedCount() {
+        long total = 0;
+        for (Subscription subscription : observers) {
+            total += subscription.suppressed.sum();
+        }
+        return total;
+    }
+
+    public long getSuppressedCount(Observer o) {
+        for (Subscription subscription : observers) {
+            if (subscription.observer.equals(o)) {
+                return subscription.suppressed.sum();
+            }
+        }
+        return 0;
     }
 
     @Override
     public void notifyObservers() {
-        for (Observer observer : observers) {
-            observer.update(temperature, humidity, pressure);
+        notifyObservers(measurements);
+    }
+
+    private void notifyObservers(Measurements reading) {
+        float t = reading.getTemperature(), h = reading.getHumidity(), p = reading.getPressure();
+        for (Subscription subscription : observers) {
+            if (subscription.accept(t, h, p)) {
+                subscription.observer.update(t, h, p);
+            }
         }
     }
 
+    // Subscribes to min/max/mean over the last windowSize readings
+    public void registerAggregateObserver(AggregateObserver o, int windowSize) {
+        if (history == null) {
+            throw new IllegalStateException("Station was created without history");
+        }
+        if (windowSize <= 0 || windowSize > history.getCapacity()) {
+            throw new IllegalArgumentException("Window size must be between 1 and " + history.getCapacity());
+        }
+        synchronized (history) {
+            for (WindowAggregator aggregator : aggregators) {
+                if (aggregator.getWindowSize() == windowSize) {
+                    aggregator.observers.add(o);
+                    return;
+                }
+            }
+            // A new window starts empty rather than replaying older readings
+            WindowAggregator aggregator = new WindowAggregator(history, windowSize, history.getCount());
+            aggregator.observers.add(o);
+            aggregators.add(aggregator);
+        }
+    }
+
+    public void removeAggregateObserver(AggregateObserver o) {
+        if (history == null) {
+            return;
+        }
+        synchronized (history) {
+            for (WindowAggregator aggregator : aggregators) {
+                aggregator.observers.remove(o);
+            }
+        }
+    }
+
+    // Null when the station was created without history; reads race with concurrent setMeasurements calls
+    public MeasurementHistory getHistory() {
+        return history;
+    }
+
+    public Measurements getMeasurements() {
+        return measurements;
+    }
+
     public void measurementsChanged() {
         notifyObservers();
     }
 
     public void setMeasurements(float temperature, float humidity, float pressure) {
-        this.temperature = temperature;
-        this.humidity = humidity;
-        this.pressure = pressure;
-        measurementsChanged();
+        Measurements reading = new Measurements(temperature, humidity, pressure);
+        this.measurements = reading;
+        // Notify with this call's own reading, even if another sensor thread has published since
+        notifyObservers(reading);
+        if (history != null) {
+            record(reading);
+        }
+    }
+
+    private void record(Measurements reading) {
+        float t = reading.getTemperature(), h = reading.getHumidity(), p = reading.getPressure();
+        List<List<AggregateObserver>> subscribers;
+        List<WindowAggregate> snapshots;
+        synchronized (history) {
+            long sequence = history.getCount();
+            for (WindowAggregator aggregator : aggregators) {
+                aggregator.add(sequence, t, h, p);
+            }
+            history.append(t, h, p, System.currentTimeMillis());
+            if (aggregators.isEmpty()) {
+                return;
+            }
+            subscribers = new ArrayList<>(aggregators.size());
+            snapshots = new ArrayList<>(aggregators.size());
+            for (WindowAggregator aggregator : aggregators) {
+                subscribers.add(aggregator.observers);
+                snapshots.add(aggregator.snapshot());
+            }
+        }
+        // Notified outside the lock, so a slow aggregate observer cannot stall other sensor threads
+        for (int i = 0; i < snapshots.size(); i++) {
+            WindowAggregator.notifyObservers(subscribers.get(i), snapshots.get(i));
+        }
     }
     
 }
@@ -0,0 +1,109 @@
+package BehavioralPattern.observer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Many stations addressed by compact int ids (0 to stationCount - 1). Stations are split into
+// contiguous stripes, each with its own lock and observer registry. Readings are coalesced per
+// station and delivered once per notification cycle, with stripes delivered in parallel; see
+// StationObserver for what that means for observers spanning several stripes.
+public class WeatherStationHub {
+    static final int STRIPE_SIZE = 256;
+
+    private final int stationCount;
+    private final HubStripe[] stripes;
+    private final ForkJoinPool pool;
+
+    public WeatherStationHub(int stationCount) {
+        this(stationCount, ForkJoinPool.commonPool());
+    }
+
+    public WeatherStationHub(int stationCount, ForkJoinPool pool) {
+        if (stationCount <= 0) {
+            throw new IllegalArgumentException("stationCount must be positive: " + stationCount);
+        }
+        this.stationCount = stationCount;
+        this.pool = pool;
+        this.stripes = new HubStripe[(stationCount + STRIPE_SIZE - 1) / STRIPE_SIZE];
+        for (int i = 0; i < stripes.length; i++) {
+            int first = i * STRIPE_SIZE;
+            stripes[i] = new HubStripe(first, Math.min(STRIPE_SIZE, stationCount - first));
+        }
+    }
+
+    public int getStationCount() {
+        return stationCount;
+    }
+
+    public void setMeasurements(int stationId, float temperature, float humidity, float pressure) {
+        checkStation(stationId);
+        stripes[stationId / STRIPE_SIZE].setMeasurements(stationId % STRIPE_SIZE, temperature, humidity, pressure);
+    }
+
+    // Subscribes o to stations fromInclusive to toExclusive
+    public void registerObserver(StationObserver o, int fromInclusive, int toExclusive) {
+        checkStation(fromInclusive);
+        if (toExclusive < fromInclusive || toExclusive > stationCount) {
+            throw new IllegalArgumentException("Invalid station range " + fromInclusive + ".." + toExclusive);
+        }
+        for (int id = fromInclusive; id < toExclusive; id++) {
+            stripes[id / STRIPE_SIZE].subscribe(id % STRIPE_SIZE, o);
+        }
+    }
+
+    public void registerObserver(StationObserver o, int... stationIds) {
+        for (int id : stationIds) {
+            checkStation(id);
+        }
+        for (int id : stationIds) {
+            stripes[id / STRIPE_SIZE].subscribe(id % STRIPE_SIZE, o);
+        }
+    }
+
+    public void removeObserver(StationObserver o) {
+        for (HubStripe stripe : stripes) {
+            stripe.unsubscribe(o);
+        }
+    }
+
+    // Runs one notification cycle: each station updated since the last cycle is delivered once,
+    // with its latest reading. Returns the number of observer updates made.
+    public synchronized long notifyObservers() {
+        return pool.invoke(new DeliverTask(0, stripes.length));
+    }
+
+    private void checkStation(int stationId) {
+        if (stationId < 0 || stationId >= stationCount) {
+            throw new IndexOutOfBoundsException("Unknown station " + stationId);
+        }
+    }
+
+    // Splits the stripes across the pool until each task has a few stripes to deliver
+    private class DeliverTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+        private static final int STRIPES_PER_TASK = 4;
+        private final int from, to;
+
+        DeliverTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= STRIPES_PER_TASK) {
+                long delivered = 0;
+                for (int i = from; i < to; i++) {
+                    delivered += stripes[i].deliver();
+                }
+                return delivered;
+            }
+            int mid = (from + to) >>> 1;
+            DeliverTask left = new DeliverTask(from, mid);
+            left.fork();
+            long right = new DeliverTask(mid, to).compute();
+            return left.join() + right;
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package BehavioralPattern.observer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Drives a hub of 10k stations at 100 readings per second each, with a notification cycle
+// every 10 ms, and reports the achieved update rate and cycle times.
+public class WeatherStationHubLoadTest {
+    private static final int STATIONS = 10_000;
+    private static final int UPDATES_PER_SECOND = 100;
+    private static final int PRODUCERS = 4;
+    private static final long CYCLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long DURATION_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    public static void main(String[] args) throws InterruptedException {
+        WeatherStationHub hub = new WeatherStationHub(STATIONS);
+        LongAdder received = new LongAdder();
+        // One dashboard per quarter of the stations, plus one watching everything
+        for (int i = 0; i < 4; i++) {
+            hub.registerObserver((id, t, h, p) -> received.increment(), i * STATIONS / 4, (i + 1) * STATIONS / 4);
+        }
+        hub.registerObserver((id, t, h, p) -> received.increment(), 0, STATIONS);
+
+        LongAdder published = new LongAdder();
+        long start = System.nanoTime();
+        long end = start + DURATION_NANOS;
+        Thread[] producers = new Thread[PRODUCERS];
+        for (int i = 0; i < PRODUCERS; i++) {
+            int from = i * STATIONS / PRODUCERS, to = (i + 1) * STATIONS / PRODUCERS;
+            producers[i] = new Thread(() -> produce(hub, from, to, end, published));
+            producers[i].start();
+        }
+
+        long cycles = 0, delivered = 0, totalCycleNanos = 0, maxCycleNanos = 0;
+        for (long next = start + CYCLE_NANOS; next < end; next += CYCLE_NANOS) {
+            sleepUntil(next);
+            long cycleStart = System.nanoTime();
+            delivered += hub.notifyObservers();
+            long cycleNanos = System.nanoTime() - cycleStart;
+            totalCycleNanos += cycleNanos;
+            maxCycleNanos = Math.max(maxCycleNanos, cycleNanos);
+            cycles++;
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        delivered += hub.notifyObservers();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("stations=%d target=%d updates/s%n", STATIONS, STATIONS * UPDATES_PER_SECOND);
+        System.out.printf("published %.0f updates/s, delivered %.0f observer updates/s (received %d)%n",
+                published.sum() / seconds, delivered / seconds, received.sum());
+        System.out.printf("cycles=%d mean cycle %.2f ms, max cycle %.2f ms%n",
+                cycles, totalCycleNanos / 1e6 / cycles, maxCycleNanos / 1e6);
+    }
+
+    // Publishes every owned station once per tick, at UPDATES_PER_SECOND ticks per second
+    private static void produce(WeatherStationHub hub, int from, int to, long end, LongAdder published) {
+        long tickNanos = 1_000_000_000L / UPDATES_PER_SECOND;
+        long count = 0;
+        for (long next = System.nanoTime(); next < end; next += tickNanos) {
+            sleepUntil(next);
+            for (int id = from; id < to; id++) {
+                hub.setMeasurements(id, 20f + (id % 10), 50f, 1013f);
+            }
+            count += to - from;
+        }
+        published.add(count);
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package BehavioralPattern.observer;
+
+// Min, max and mean over the last readings of one window, as an immutable snapshot taken when
+// the reading was recorded. Observers are notified outside the station's lock, so snapshots from
+// sensor threads calling setMeasurements at the same time may arrive out of order.
+public interface WindowAggregate {
+    int getWindowSize();
+    int getCount();
+    float getMinTemperature();
+    float getMaxTemperature();
+    float getMeanTemperature();
+    float getMinHumidity();
+    float getMaxHumidity();
+    float getMeanHumidity();
+    float getMinPressure();
+    float getMaxPressure();
+    float getMeanPressure();
+
+}
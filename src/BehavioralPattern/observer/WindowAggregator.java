@@ -0,0 +1,41 @@
+package BehavioralPattern.observer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Keeps the sliding windows of one window size and the observers subscribed to it
+class WindowAggregator {
+    private final int windowSize;
+    private final SlidingWindow temperature, humidity, pressure;
+    final List<AggregateObserver> observers = new CopyOnWriteArrayList<>();
+
+    // startSequence is the sequence number of the first reading the windows will be given
+    WindowAggregator(MeasurementHistory history, int windowSize, long startSequence) {
+        this.windowSize = windowSize;
+        this.temperature = new SlidingWindow(history, MeasurementHistory.TEMPERATURE, windowSize, startSequence);
+        this.humidity = new SlidingWindow(history, MeasurementHistory.HUMIDITY, windowSize, startSequence);
+        this.pressure = new SlidingWindow(history, MeasurementHistory.PRESSURE, windowSize, startSequence);
+    }
+
+    void add(long sequence, float t, float h, float p) {
+        temperature.add(sequence, t);
+        humidity.add(sequence, h);
+        pressure.add(sequence, p);
+    }
+
+    // Call under the history lock, after the reading passed to add() has been appended
+    WindowAggregate snapshot() {
+        return new AggregateSnapshot(windowSize, temperature, humidity, pressure);
+    }
+
+    static void notifyObservers(List<AggregateObserver> observers, WindowAggregate snapshot) {
+        for (AggregateObserver observer : observers) {
+            observer.update(snapshot);
+        }
+    }
+
+    int getWindowSize() {
+        return windowSize;
+    }
+
+}
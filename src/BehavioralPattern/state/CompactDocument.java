@@ -0,0 +1,23 @@
+package BehavioralPattern.state;
+
+// Document whose state is a DocumentStateTable code instead of a State object
+public class CompactDocument {
+    private byte state = DocumentStateTable.DRAFT;
+
+    public byte getState() {
+        return state;
+    }
+
+    public void publish() {
+        transition(DocumentStateTable.PUBLISH);
+    }
+
+    public void approve() {
+        transition(DocumentStateTable.APPROVE);
+    }
+
+    private void transition(int event) {
+        System.out.println(DocumentStateTable.message(state, event));
+        state = DocumentStateTable.next(state, event);
+    }
+}
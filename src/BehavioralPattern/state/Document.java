@@ -1,21 +1,34 @@
 package BehavioralPattern.state;
 
+import java.util.concurrent.atomic.AtomicReference;
+
+// Transitions are compare-and-set on the current state, so concurrent publish()/approve()
+// calls are linearizable: none is lost and no illegal path is taken, without locking.
 class Document {
-    private State state;
+    private final AtomicReference<State> state;
 
     public Document() {
-        this.state = new Draft();
+        this.state = new AtomicReference<>(new Draft());
+    }
+
+    public State getState() {
+        return state.get();
     }
 
-    public void setState(State state) {
-        this.state = state;
+    // Moves to next only if the document is still in expected
+    boolean compareAndSetState(State expected, State next) {
+        return state.compareAndSet(expected, next);
     }
 
     public void publish() {
-        state.publish(this);
+        while (!state.get().publish(this)) {
+            Thread.onSpinWait();
+        }
     }
 
     public void approve() {
-        state.approve(this);
+        while (!state.get().approve(this)) {
+            Thread.onSpinWait();
+        }
     }
-}
\ No newline at end of file
+}
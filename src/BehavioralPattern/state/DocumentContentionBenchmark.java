@@ -0,0 +1,80 @@
+package BehavioralPattern.state;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Has 1, 8 and 64 threads race publish() and approve() over the same documents, then checks
+// every document ended Published. Reports document operations per second for each thread count.
+public class DocumentContentionBenchmark {
+    private static final int DOCUMENTS = 4096;
+    private static final int ROUNDS = 200;
+    private static final int[] THREAD_COUNTS = { 1, 8, 64 };
+
+    static Document[] docs;
+
+    public static void main(String[] args) throws Exception {
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            for (int threads : THREAD_COUNTS) {
+                run(threads);
+            }
+            for (int threads : THREAD_COUNTS) {
+                double opsPerSecond = run(threads);
+                console.printf("threads=%-3d %,15.0f ops/s%n", threads, opsPerSecond);
+            }
+        } finally {
+            System.setOut(console);
+        }
+    }
+
+    // Each round every thread publishes then approves every document, starting at its own offset
+    static double run(int threads) throws Exception {
+        AtomicLong elapsed = new AtomicLong();
+        long[] roundStart = new long[1];
+        CyclicBarrier start = new CyclicBarrier(threads, () -> {
+            docs = new Document[DOCUMENTS];
+            for (int i = 0; i < DOCUMENTS; i++) {
+                docs[i] = new Document();
+            }
+            roundStart[0] = System.nanoTime();
+        });
+        CyclicBarrier finish = new CyclicBarrier(threads, () -> {
+            elapsed.addAndGet(System.nanoTime() - roundStart[0]);
+            for (Document doc : docs) {
+                if (!(doc.getState() instanceof Published)) {
+                    throw new IllegalStateException("Lost transition: document left in " + doc.getState());
+                }
+            }
+        });
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int offset = t * (DOCUMENTS / threads);
+            workers[t] = new Thread(() -> {
+                try {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        start.await();
+                        for (int i = 0; i < DOCUMENTS; i++) {
+                            docs[(offset + i) % DOCUMENTS].publish();
+                        }
+                        for (int i = 0; i < DOCUMENTS; i++) {
+                            docs[(offset + i) % DOCUMENTS].approve();
+                        }
+                        finish.await();
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long operations = 2L * DOCUMENTS * ROUNDS * threads;
+        return operations * 1e9 / elapsed.get();
+    }
+
+}
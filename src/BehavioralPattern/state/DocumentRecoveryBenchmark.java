@@ -0,0 +1,50 @@
+package BehavioralPattern.state;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+// Creates ten million documents, checkpoints them, journals a tail of transitions, then times
+// recovery from the snapshot plus journal tail in a temporary directory.
+public class DocumentRecoveryBenchmark {
+    private static final int DOCUMENTS = 10_000_000;
+    private static final int TAIL_TRANSITIONS = 1_000_000;
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Files.createTempDirectory("document-states");
+        try {
+            long start = System.nanoTime();
+            try (DocumentStateStore store = DocumentStateStore.open(directory)) {
+                store.create(DOCUMENTS);
+                for (int id = 0; id < DOCUMENTS; id += 2) {
+                    store.apply(id, DocumentStateTable.PUBLISH);
+                }
+                store.checkpoint();
+                long checkpointed = System.nanoTime();
+                // Tail after the snapshot: approve some moderated documents, publish some drafts
+                for (int i = 0; i < TAIL_TRANSITIONS; i++) {
+                    int id = (int) ((i * 7L) % DOCUMENTS);
+                    store.apply(id, id % 2 == 0 ? DocumentStateTable.APPROVE : DocumentStateTable.PUBLISH);
+                }
+                System.out.printf("wrote %d documents and snapshot in %.0f ms, %d tail transitions in %.0f ms%n",
+                        DOCUMENTS, (checkpointed - start) / 1e6, TAIL_TRANSITIONS,
+                        (System.nanoTime() - checkpointed) / 1e6);
+            }
+
+            long recoverStart = System.nanoTime();
+            try (DocumentStateStore recovered = DocumentStateStore.open(directory)) {
+                long recoverNanos = System.nanoTime() - recoverStart;
+                System.out.printf("recovered %d documents in %.0f ms; document 0 is %s, document 7 is %s%n",
+                        recovered.size(), recoverNanos / 1e6, DocumentStateTable.name(recovered.getState(0)),
+                        DocumentStateTable.name(recovered.getState(7)));
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package BehavioralPattern.state;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+// Moves a batch of documents through publish, approve, publish with the object-per-transition
+// Document and with the table-driven CompactDocument. Both are driven by the same event codes and
+// both print one message per transition, to a null stream so formatting is timed but not the
+// terminal. The bulk DocumentStateTable.advance, which prints nothing, is reported separately.
+public class DocumentStateBenchmark {
+    private static final int DOCUMENTS = 1_000_000;
+    private static final int ROUNDS = 5;
+    private static final int[] EVENTS = { DocumentStateTable.PUBLISH, DocumentStateTable.APPROVE,
+            DocumentStateTable.PUBLISH };
+
+    static long runObjects() {
+        long start = System.nanoTime();
+        Document[] docs = new Document[DOCUMENTS];
+        for (int i = 0; i < docs.length; i++) {
+            docs[i] = new Document();
+        }
+        for (int event : EVENTS) {
+            for (Document doc : docs) {
+                if (event == DocumentStateTable.PUBLISH) {
+                    doc.publish();
+                } else {
+                    doc.approve();
+                }
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    static long runCompact() {
+        long start = System.nanoTime();
+        CompactDocument[] docs = new CompactDocument[DOCUMENTS];
+        for (int i = 0; i < docs.length; i++) {
+            docs[i] = new CompactDocument();
+        }
+        for (int event : EVENTS) {
+            for (CompactDocument doc : docs) {
+                if (event == DocumentStateTable.PUBLISH) {
+                    doc.publish();
+                } else {
+                    doc.approve();
+                }
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    static long runBulk() {
+        long start = System.nanoTime();
+        byte[] states = new byte[DOCUMENTS];
+        for (int event : EVENTS) {
+            DocumentStateTable.advance(states, event);
+        }
+        return System.nanoTime() - start;
+    }
+
+    public static void main(String[] args) {
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            long objectNanos = Long.MAX_VALUE, compactNanos = Long.MAX_VALUE, bulkNanos = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                objectNanos = Math.min(objectNanos, runObjects());
+                compactNanos = Math.min(compactNanos, runCompact());
+                bulkNanos = Math.min(bulkNanos, runBulk());
+            }
+            int transitions = DOCUMENTS * EVENTS.length;
+            console.printf("documents=%d, best of %d rounds%n", DOCUMENTS, ROUNDS);
+            console.printf("object-per-transition:  %8.2f ms (%.2f ns/transition)%n",
+                    objectNanos / 1e6, (double) objectNanos / transitions);
+            console.printf("table-driven document:  %8.2f ms (%.2f ns/transition)%n",
+                    compactNanos / 1e6, (double) compactNanos / transitions);
+            console.printf("bulk table, no output:  %8.2f ms (%.2f ns/transition)%n",
+                    bulkNanos / 1e6, (double) bulkNanos / transitions);
+        } finally {
+            System.setOut(console);
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+package BehavioralPattern.state;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// Durable DocumentStateTable states for documents with compact int ids. Every transition is
+// journaled; checkpoint() writes a compact snapshot of all states and starts a new journal, so
+// open() loads the latest snapshot and replays only the journal written after it.
+public class DocumentStateStore implements AutoCloseable {
+    private static final int SNAPSHOT_MAGIC = 0x44535331;
+    private static final String SNAPSHOT = "snapshot.bin";
+    private static final long FLUSH_INTERVAL_MILLIS = 10;
+
+    private final Path directory;
+    private long generation;
+    private TransitionJournal journal;
+    private byte[] states;
+    private int count;
+
+    private DocumentStateStore(Path directory, long generation, byte[] states, int count) throws IOException {
+        this.directory = directory;
+        this.generation = generation;
+        this.states = states;
+        this.count = count;
+        this.journal = new TransitionJournal(journalFile(generation), FLUSH_INTERVAL_MILLIS);
+    }
+
+    // Recovers the store in directory, or creates an empty one
+    public static DocumentStateStore open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        long generation = 0;
+        byte[] states = new byte[1024];
+        int count = 0;
+        Path snapshot = directory.resolve(SNAPSHOT);
+        if (Files.exists(snapshot)) {
+            try (InputStream file = Files.newInputStream(snapshot);
+                    DataInputStream in = new DataInputStream(file)) {
+                if (in.readInt() != SNAPSHOT_MAGIC) {
+                    throw new IOException("Not a document state snapshot: " + snapshot);
+                }
+                generation = in.readLong();
+                count = in.readInt();
+                states = new byte[Math.max(1024, count)];
+                in.readFully(states, 0, count);
+            }
+        }
+        byte[][] recovered = { states };
+        int[] recoveredCount = { count };
+        TransitionJournal.replay(directory.resolve("journal-" + generation + ".log"), (id, run, from, to, ts) -> {
+            int end = (int) id + run;
+            if (end > recovered[0].length) {
+                recovered[0] = Arrays.copyOf(recovered[0], Math.max(end, recovered[0].length * 2));
+            }
+            Arrays.fill(recovered[0], (int) id, end, to);
+            recoveredCount[0] = Math.max(recoveredCount[0], end);
+        });
+        return new DocumentStateStore(directory, generation, recovered[0], recoveredCount[0]);
+    }
+
+    private Path journalFile(long generation) {
+        return directory.resolve("journal-" + generation + ".log");
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    public synchronized byte getState(int documentId) {
+        checkDocument(documentId);
+        return states[documentId];
+    }
+
+    // Creates n documents in Draft with consecutive ids and returns the first id
+    public synchronized int create(int n) throws IOException {
+        int first = count;
+        if (first + n > states.length) {
+            states = Arrays.copyOf(states, Math.max(first + n, states.length * 2));
+        }
+        Arrays.fill(states, first, first + n, DocumentStateTable.DRAFT);
+        count += n;
+        journal.append(first, n, DocumentStateTable.DRAFT, DocumentStateTable.DRAFT, System.currentTimeMillis());
+        return first;
+    }
+
+    // Applies a DocumentStateTable event and journals it if the state changed; returns the new state
+    public synchronized byte apply(int documentId, int event) throws IOException {
+        checkDocument(documentId);
+        byte from = states[documentId];
+        byte to = DocumentStateTable.next(from, event);
+        if (to != from) {
+            states[documentId] = to;
+            journal.append(documentId, 1, from, to, System.currentTimeMillis());
+        }
+        return to;
+    }
+
+    // Returns once every transition applied so far is on disk, sharing the journal's group commit
+    // with other callers. The journal is read under the lock, since checkpoint() replaces it, but
+    // waited on outside it so apply() is not held up by the disk.
+    public void sync() throws IOException {
+        TransitionJournal current;
+        synchronized (this) {
+            current = journal;
+        }
+        current.sync();
+    }
+
+    // Writes a snapshot of all states, then switches to an empty journal for the next generation
+    public synchronized void checkpoint() throws IOException {
+        long next = generation + 1;
+        Path temp = directory.resolve(SNAPSHOT + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(16);
+            header.putInt(SNAPSHOT_MAGIC).putLong(next).putInt(count).flip();
+            while (header.hasRemaining()) {
+                out.write(header);
+            }
+            ByteBuffer body = ByteBuffer.wrap(states, 0, count);
+            while (body.hasRemaining()) {
+                out.write(body);
+            }
+            out.force(true);
+        }
+        // The rename is the commit point: before it, recovery still uses the old snapshot and journal
+        Files.move(temp, directory.resolve(SNAPSHOT), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        journal.close();
+        Files.deleteIfExists(journalFile(generation));
+        generation = next;
+        journal = new TransitionJournal(journalFile(generation), FLUSH_INTERVAL_MILLIS);
+    }
+
+    private void checkDocument(int documentId) {
+        if (documentId < 0 || documentId >= count) {
+            throw new IndexOutOfBoundsException("Unknown document " + documentId);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        journal.close();
+    }
+
+}
@@ -0,0 +1,69 @@
+package BehavioralPattern.state;
+
+// Table-driven form of the Draft -> Moderation -> Published machine. States and events are
+// small codes, and a transition is one lookup in TRANSITIONS, so no State objects are needed.
+public final class DocumentStateTable {
+    public static final byte DRAFT = 0, MODERATION = 1, PUBLISHED = 2;
+    public static final int PUBLISH = 0, APPROVE = 1;
+
+    private static final int EVENT_COUNT = 2;
+
+    // TRANSITIONS[state * EVENT_COUNT + event] is the next state
+    private static final byte[] TRANSITIONS = {
+            /* DRAFT */      MODERATION, DRAFT,
+            /* MODERATION */ MODERATION, PUBLISHED,
+            /* PUBLISHED */  PUBLISHED, PUBLISHED,
+    };
+
+    // Same messages the State classes print, indexed like TRANSITIONS
+    private static final String[] MESSAGES = {
+            "Publishing draft, moving to moderation.", "Draft cannot be approved directly.",
+            "Cannot publish from Moderation without approval.", "Approving moderation, moving to published.",
+            "Already published.", "Already approved.",
+    };
+
+    private static final String[] NAMES = { "Draft", "Moderation", "Published" };
+
+    private DocumentStateTable() {
+    }
+
+    public static byte next(byte state, int event) {
+        return TRANSITIONS[state * EVENT_COUNT + event];
+    }
+
+    static String message(byte state, int event) {
+        return MESSAGES[state * EVENT_COUNT + event];
+    }
+
+    public static String name(byte state) {
+        return NAMES[state];
+    }
+
+    // Applies one event to every document state in place; returns how many documents changed state
+    public static int advance(byte[] states, int event) {
+        int changed = 0;
+        for (int i = 0; i < states.length; i++) {
+            byte current = states[i];
+            byte next = TRANSITIONS[current * EVENT_COUNT + event];
+            states[i] = next;
+            changed += current != next ? 1 : 0;
+        }
+        return changed;
+    }
+
+    // Applies events[i] to states[i] in place; returns how many documents changed state
+    public static int advance(byte[] states, byte[] events) {
+        if (events.length != states.length) {
+            throw new IllegalArgumentException("Expected one event per document");
+        }
+        int changed = 0;
+        for (int i = 0; i < states.length; i++) {
+            byte current = states[i];
+            byte next = TRANSITIONS[current * EVENT_COUNT + events[i]];
+            states[i] = next;
+            changed += current != next ? 1 : 0;
+        }
+        return changed;
+    }
+
+}
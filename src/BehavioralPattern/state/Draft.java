@@ -1,12 +1,16 @@
 package BehavioralPattern.state;
 
 public class Draft implements State {
-    public void publish(Document doc) {
+    public boolean publish(Document doc) {
+        if (!doc.compareAndSetState(this, new Moderation())) {
+            return false;
+        }
         System.out.println("Publishing draft, moving to moderation.");
-        doc.setState(new Moderation());
+        return true;
     }
 
-    public void approve(Document doc) {
+    public boolean approve(Document doc) {
         System.out.println("Draft cannot be approved directly.");
+        return true;
     }
 }
@@ -1,12 +1,16 @@
 package BehavioralPattern.state;
 
 public class Moderation implements State {
-    public void publish(Document doc) {
+    public boolean publish(Document doc) {
         System.out.println("Cannot publish from Moderation without approval.");
+        return true;
     }
 
-    public void approve(Document doc) {
+    public boolean approve(Document doc) {
+        if (!doc.compareAndSetState(this, new Published())) {
+            return false;
+        }
         System.out.println("Approving moderation, moving to published.");
-        doc.setState(new Published());
+        return true;
     }
 }
@@ -1,11 +1,13 @@
 package BehavioralPattern.state;
 
 public class Published  implements State {
-    public void publish(Document doc) {
+    public boolean publish(Document doc) {
         System.out.println("Already published.");
+        return true;
     }
 
-    public void approve(Document doc) {
+    public boolean approve(Document doc) {
         System.out.println("Already approved.");
+        return true;
     }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package BehavioralPattern.state;
 
+// Each method returns false when another thread changed the document's state first,
+// in which case Document retries against the new state.
 public interface State {
-    void publish(Document doc);
-    void approve(Document doc);
+    boolean publish(Document doc);
+    boolean approve(Document doc);
     
 }
@@ -5,6 +5,12 @@ public class StateClient {
         Document doc = new Document();
         doc.publish();
         doc.approve();
+
+        // Same lifecycle driven by the transition table
+        CompactDocument compactDoc = new CompactDocument();
+        compactDoc.publish();
+        compactDoc.approve();
+        System.out.println("Compact document is " + DocumentStateTable.name(compactDoc.getState()));
     }
     
 }
@@ -0,0 +1,207 @@
+package BehavioralPattern.state;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Append-only journal of state transitions in a memory-mapped file. Every record is RECORD_SIZE
+// bytes: document id, timestamp, run length, from-state, to-state and a checksum of those fields
+// and the record's slot number. Stores to a mapped file reach the disk in no particular order, so
+// replay stops at the first record whose checksum does not match, which catches torn and
+// zero-filled tails alike; opening a journal cuts the file back to that point, so records lost to
+// one crash cannot reappear after a later one. Records are 32 bytes so none straddles a page.
+//
+// Group commit: a flusher thread forces dirty pages to disk every flushIntervalMillis, or at once
+// when sync() is waiting. Every sync() caller waiting at that moment is released by the same
+// force. append() itself returns before its record is durable.
+public class TransitionJournal implements AutoCloseable {
+    static final int RECORD_SIZE = 32;
+    // A whole number of records, so none straddles two mapped regions
+    private static final long REGION_SIZE = RECORD_SIZE * (2L << 20);
+    private static final int CHECKSUM_OFFSET = 24;
+    // Non-zero so an all-zero record never carries a valid checksum
+    private static final long CHECKSUM_SEED = 0x9E3779B97F4A7C15L;
+
+    // Receives journal records during replay
+    public interface RecordVisitor {
+        void visit(long documentId, int count, byte from, byte to, long timestampMillis);
+    }
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> regions = new ArrayList<>();
+    private final Thread flusher;
+    // Written only by the appending thread; volatile so sync() sees every record appended before it
+    private volatile long position;
+    private volatile boolean open = true;
+    // Guards durable and requested; the flusher waits on it between forces, sync() callers on it
+    private final Object flushLock = new Object();
+    private long durable;
+    private long requested;
+
+    public TransitionJournal(Path file, long flushIntervalMillis) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.position = replay(file, null) * RECORD_SIZE;
+        // Drop the torn record and anything after it before new records are written over them
+        channel.truncate(position);
+        channel.force(true);
+        this.durable = position;
+        this.flusher = new Thread(() -> flushLoop(flushIntervalMillis));
+        flusher.setName("transition-journal-flush");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // Visits every intact record in order and returns how many there were
+    public static long replay(Path file, RecordVisitor visitor) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = in.size();
+            long records = 0;
+            for (long start = 0; start < size; start += REGION_SIZE) {
+                MappedByteBuffer region = in.map(FileChannel.MapMode.READ_ONLY, start, Math.min(REGION_SIZE, size - start));
+                region.order(ByteOrder.LITTLE_ENDIAN);
+                for (int at = 0; at + RECORD_SIZE <= region.limit(); at += RECORD_SIZE) {
+                    long documentId = region.getLong(at);
+                    long timestampMillis = region.getLong(at + 8);
+                    int count = region.getInt(at + 16);
+                    byte from = region.get(at + 20);
+                    byte to = region.get(at + 21);
+                    if (region.getInt(at + CHECKSUM_OFFSET) != checksum(records, documentId, timestampMillis, count, from, to)) {
+                        return records;
+                    }
+                    if (visitor != null) {
+                        visitor.visit(documentId, count, from, to, timestampMillis);
+                    }
+                    records++;
+                }
+            }
+            return records;
+        }
+    }
+
+    // Not thread-safe; callers serialise appends so journal order matches application order
+    public void append(long documentId, int count, byte from, byte to, long timestampMillis) throws IOException {
+        MappedByteBuffer region = regionFor(position);
+        int at = (int) (position % REGION_SIZE);
+        region.putLong(at, documentId);
+        region.putLong(at + 8, timestampMillis);
+        region.putInt(at + 16, count);
+        region.put(at + 20, from);
+        region.put(at + 21, to);
+        region.putInt(at + CHECKSUM_OFFSET, checksum(position / RECORD_SIZE, documentId, timestampMillis, count, from, to));
+        position += RECORD_SIZE;
+    }
+
+    static int checksum(long slot, long documentId, long timestampMillis, int count, byte from, byte to) {
+        long h = mix(CHECKSUM_SEED ^ slot);
+        h = mix(h ^ documentId);
+        h = mix(h ^ timestampMillis);
+        h = mix(h ^ ((long) count << 16 | (from & 0xFF) << 8 | (to & 0xFF)));
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long mix(long h) {
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    private MappedByteBuffer regionFor(long offset) throws IOException {
+        int index = (int) (offset / REGION_SIZE);
+        synchronized (regions) {
+            while (regions.size() <= index) {
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_WRITE, regions.size() * REGION_SIZE, REGION_SIZE);
+                region.order(ByteOrder.LITTLE_ENDIAN);
+                regions.add(region);
+            }
+            return regions.get(index);
+        }
+    }
+
+    // Returns once every record appended before the call is on disk. Concurrent callers share
+    // one force by the flusher thread.
+    public void sync() throws IOException {
+        long target = position;
+        synchronized (flushLock) {
+            if (durable >= target) {
+                return;
+            }
+            requested = Math.max(requested, target);
+            flushLock.notifyAll();
+            try {
+                while (durable < target) {
+                    flushLock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for journal sync");
+            }
+        }
+    }
+
+    // Forces every region mapped so far, which covers every record below the position read first.
+    // The regions are forced outside the lock so appends that need a new region are not held up.
+    private void force() {
+        long target = position;
+        MappedByteBuffer[] snapshot;
+        synchronized (regions) {
+            snapshot = regions.toArray(new MappedByteBuffer[0]);
+        }
+        for (MappedByteBuffer region : snapshot) {
+            region.force();
+        }
+        synchronized (flushLock) {
+            durable = Math.max(durable, target);
+            flushLock.notifyAll();
+        }
+    }
+
+    private void flushLoop(long flushIntervalMillis) {
+        while (open) {
+            synchronized (flushLock) {
+                if (requested <= durable) {
+                    try {
+                        flushLock.wait(flushIntervalMillis);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+            if (position > durable()) {
+                force();
+            }
+        }
+    }
+
+    private long durable() {
+        synchronized (flushLock) {
+            return durable;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        open = false;
+        flusher.interrupt();
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        force();
+        // Drop the unused, zero-filled part of the last mapped region
+        channel.truncate(position);
+        channel.close();
+    }
+
+}
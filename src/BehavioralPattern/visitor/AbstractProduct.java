@@ -0,0 +1,29 @@
+package BehavioralPattern.visitor;
+
+// Price and quantity shared by every concrete Product
+public abstract class AbstractProduct implements Product {
+	private double price;
+	private int quantity;
+
+	protected AbstractProduct(double price, int quantity) {
+		this.price = price;
+		this.quantity = quantity;
+	}
+
+	// Repoints this instance at another row; used by CatalogDiscountEngine to reuse one cursor
+	void load(double price, int quantity) {
+		this.price = price;
+		this.quantity = quantity;
+	}
+
+	@Override
+	public double getPrice() {
+		return price;
+	}
+
+	@Override
+	public int getQuantity() {
+		return quantity;
+	}
+
+}
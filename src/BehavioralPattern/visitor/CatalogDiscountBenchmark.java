@@ -0,0 +1,63 @@
+package BehavioralPattern.visitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Prices 10M randomly mixed products with HolidayDiscountVisitor, once by calling accept() on
+// each Product object and once through CatalogDiscountEngine over a ProductCatalog.
+public class CatalogDiscountBenchmark {
+	private static final int PRODUCTS = 10_000_000;
+	private static final int ROUNDS = 5;
+
+	public static void main(String[] args) {
+		Random random = new Random(42);
+		ProductType[] types = ProductType.values();
+		List<Product> objects = new ArrayList<>(PRODUCTS);
+		ProductCatalog catalog = new ProductCatalog(PRODUCTS);
+		for (int i = 0; i < PRODUCTS; i++) {
+			ProductType type = types[random.nextInt(types.length)];
+			double price = 1 + random.nextInt(10_000) / 100.0;
+			int quantity = 1 + random.nextInt(5);
+			catalog.add(type, price, quantity);
+			switch (type) {
+			case FOOD:
+				objects.add(new Food(price, quantity));
+				break;
+			case CLOTHING:
+				objects.add(new Clothing(price, quantity));
+				break;
+			case ELECTRONICS:
+				objects.add(new Electronics(price, quantity));
+				break;
+			}
+		}
+
+		CatalogDiscountEngine engine = new CatalogDiscountEngine();
+		HolidayDiscountVisitor visitor = new HolidayDiscountVisitor();
+		long groupStart = System.nanoTime();
+		engine.apply(catalog, visitor);
+		System.out.printf("grouping %d rows by type: %.1f ms%n", PRODUCTS, (System.nanoTime() - groupStart) / 1e6);
+
+		long objectBest = Long.MAX_VALUE, engineBest = Long.MAX_VALUE;
+		double objectTotal = 0, engineTotal = 0;
+		for (int round = 0; round < ROUNDS; round++) {
+			visitor.reset();
+			long start = System.nanoTime();
+			for (Product product : objects) {
+				product.accept(visitor);
+			}
+			objectBest = Math.min(objectBest, System.nanoTime() - start);
+			objectTotal = visitor.getTotal();
+
+			visitor.reset();
+			start = System.nanoTime();
+			engine.apply(catalog, visitor);
+			engineBest = Math.min(engineBest, System.nanoTime() - start);
+			engineTotal = visitor.getTotal();
+		}
+		System.out.printf("per-object accept: %8.1f ms  total %.2f%n", objectBest / 1e6, objectTotal);
+		System.out.printf("columnar engine:   %8.1f ms  total %.2f%n", engineBest / 1e6, engineTotal);
+	}
+
+}
@@ -0,0 +1,30 @@
+package BehavioralPattern.visitor;
+
+// Applies a DiscountVisitor to a ProductCatalog one product type at a time. Each group runs a
+// loop over a single visit method with one reusable product cursor, instead of dispatching
+// accept() on a separate object per row.
+public class CatalogDiscountEngine {
+
+	public void apply(ProductCatalog catalog, DiscountVisitor visitor) {
+		double[] prices = catalog.groupedPrices();
+		int[] quantities = catalog.groupedQuantities();
+		int[] starts = catalog.groupStarts();
+
+		Food food = new Food(0, 0);
+		for (int i = starts[ProductType.FOOD.ordinal()]; i < starts[ProductType.FOOD.ordinal() + 1]; i++) {
+			food.load(prices[i], quantities[i]);
+			visitor.visitFood(food);
+		}
+		Clothing clothing = new Clothing(0, 0);
+		for (int i = starts[ProductType.CLOTHING.ordinal()]; i < starts[ProductType.CLOTHING.ordinal() + 1]; i++) {
+			clothing.load(prices[i], quantities[i]);
+			visitor.visitClothing(clothing);
+		}
+		Electronics electronics = new Electronics(0, 0);
+		for (int i = starts[ProductType.ELECTRONICS.ordinal()]; i < starts[ProductType.ELECTRONICS.ordinal() + 1]; i++) {
+			electronics.load(prices[i], quantities[i]);
+			visitor.visitElectronics(electronics);
+		}
+	}
+
+}
@@ -1,6 +1,9 @@
 package BehavioralPattern.visitor;
 
-public class Clothing implements Product {
+public class Clothing extends AbstractProduct {
+	public Clothing(double price, int quantity) {
+		super(price, quantity);
+	}
 
 	@Override
 	public void accept(DiscountVisitor visitor) {
@@ -8,4 +11,9 @@ public class Clothing implements Product {
 
 	}
 
+	@Override
+	public <R> R accept(ResultVisitor<R> visitor, R partial) {
+		return visitor.visitClothing(this, partial);
+	}
+
 }
@@ -0,0 +1,58 @@
+package BehavioralPattern.visitor;
+
+// Discounted totals and savings per product type, kept in whole cents so that merging
+// partial breakdowns is exact and the result does not depend on merge order.
+public class DiscountBreakdown {
+	private final long[] totalCents = new long[ProductType.values().length];
+	private final long[] savingsCents = new long[ProductType.values().length];
+
+	void add(ProductType type, double price, int quantity, double rate) {
+		long lineCents = Math.round(price * 100) * quantity;
+		long discountCents = Math.round(lineCents * rate);
+		totalCents[type.ordinal()] += lineCents - discountCents;
+		savingsCents[type.ordinal()] += discountCents;
+	}
+
+	// Adds other into this breakdown and returns this
+	DiscountBreakdown addAll(DiscountBreakdown other) {
+		for (int i = 0; i < totalCents.length; i++) {
+			totalCents[i] += other.totalCents[i];
+			savingsCents[i] += other.savingsCents[i];
+		}
+		return this;
+	}
+
+	public double getTotal(ProductType type) {
+		return totalCents[type.ordinal()] / 100.0;
+	}
+
+	public double getSavings(ProductType type) {
+		return savingsCents[type.ordinal()] / 100.0;
+	}
+
+	public double getTotal() {
+		long cents = 0;
+		for (long total : totalCents) {
+			cents += total;
+		}
+		return cents / 100.0;
+	}
+
+	public double getSavings() {
+		long cents = 0;
+		for (long savings : savingsCents) {
+			cents += savings;
+		}
+		return cents / 100.0;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder();
+		for (ProductType type : ProductType.values()) {
+			text.append(String.format("%s: %.2f (saved %.2f)%n", type, getTotal(type), getSavings(type)));
+		}
+		return text.append(String.format("Total: %.2f (saved %.2f)", getTotal(), getSavings())).toString();
+	}
+
+}
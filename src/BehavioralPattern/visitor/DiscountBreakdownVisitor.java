@@ -0,0 +1,44 @@
+package BehavioralPattern.visitor;
+
+// Builds a per-category DiscountBreakdown using the rates of a RateDiscountVisitor.
+// Each traversal owns the breakdown it folds into, so no state is shared between threads.
+public class DiscountBreakdownVisitor implements ResultVisitor<DiscountBreakdown> {
+	private final double foodRate;
+	private final double clothingRate;
+	private final double electronicsRate;
+
+	public DiscountBreakdownVisitor(RateDiscountVisitor rates) {
+		this.foodRate = rates.getRate(ProductType.FOOD);
+		this.clothingRate = rates.getRate(ProductType.CLOTHING);
+		this.electronicsRate = rates.getRate(ProductType.ELECTRONICS);
+	}
+
+	@Override
+	public DiscountBreakdown identity() {
+		return new DiscountBreakdown();
+	}
+
+	@Override
+	public DiscountBreakdown visitFood(Food food, DiscountBreakdown partial) {
+		partial.add(ProductType.FOOD, food.getPrice(), food.getQuantity(), foodRate);
+		return partial;
+	}
+
+	@Override
+	public DiscountBreakdown visitClothing(Clothing clothing, DiscountBreakdown partial) {
+		partial.add(ProductType.CLOTHING, clothing.getPrice(), clothing.getQuantity(), clothingRate);
+		return partial;
+	}
+
+	@Override
+	public DiscountBreakdown visitElectronics(Electronics electronics, DiscountBreakdown partial) {
+		partial.add(ProductType.ELECTRONICS, electronics.getPrice(), electronics.getQuantity(), electronicsRate);
+		return partial;
+	}
+
+	@Override
+	public DiscountBreakdown merge(DiscountBreakdown left, DiscountBreakdown right) {
+		return left.addAll(right);
+	}
+
+}
@@ -1,6 +1,9 @@
 package BehavioralPattern.visitor;
 
-public class Electronics implements Product {
+public class Electronics extends AbstractProduct {
+	public Electronics(double price, int quantity) {
+		super(price, quantity);
+	}
 
 	@Override
 	public void accept(DiscountVisitor visitor) {
@@ -8,4 +11,9 @@ public class Electronics implements Product {
 
 	}
 
+	@Override
+	public <R> R accept(ResultVisitor<R> visitor, R partial) {
+		return visitor.visitElectronics(this, partial);
+	}
+
 }
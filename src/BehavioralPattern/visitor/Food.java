@@ -1,6 +1,9 @@
 package BehavioralPattern.visitor;
 
-public class Food implements Product {
+public class Food extends AbstractProduct {
+	public Food(double price, int quantity) {
+		super(price, quantity);
+	}
 
 	@Override
 	public void accept(DiscountVisitor visitor) {
@@ -8,4 +11,9 @@ public class Food implements Product {
 
 	}
 
+	@Override
+	public <R> R accept(ResultVisitor<R> visitor, R partial) {
+		return visitor.visitFood(this, partial);
+	}
+
 }
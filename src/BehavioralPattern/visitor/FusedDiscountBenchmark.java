@@ -0,0 +1,75 @@
+package BehavioralPattern.visitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Applies holiday and clearance pricing to 10M products as two separate passes and as one
+// FusedDiscountVisitor pass, over Product objects and over a ProductCatalog. Reports time,
+// bytes streamed from memory per run, and the resulting effective bandwidth.
+public class FusedDiscountBenchmark {
+	private static final int PRODUCTS = 10_000_000;
+	private static final int ROUNDS = 5;
+	// Approximate footprint read per product: compressed reference plus a 24-byte object,
+	// or one price and one quantity column entry
+	private static final long OBJECT_BYTES = 4 + 24;
+	private static final long COLUMN_BYTES = Double.BYTES + Integer.BYTES;
+
+	public static void main(String[] args) {
+		Random random = new Random(7);
+		ProductType[] types = ProductType.values();
+		List<Product> objects = new ArrayList<>(PRODUCTS);
+		ProductCatalog catalog = new ProductCatalog(PRODUCTS);
+		for (int i = 0; i < PRODUCTS; i++) {
+			ProductType type = types[random.nextInt(types.length)];
+			double price = 1 + random.nextInt(10_000) / 100.0;
+			int quantity = 1 + random.nextInt(5);
+			catalog.add(type, price, quantity);
+			objects.add(type == ProductType.FOOD ? new Food(price, quantity)
+					: type == ProductType.CLOTHING ? new Clothing(price, quantity) : new Electronics(price, quantity));
+		}
+		CatalogDiscountEngine engine = new CatalogDiscountEngine();
+		RateDiscountVisitor holiday = new HolidayDiscountVisitor();
+		RateDiscountVisitor clearance = new ClearanceDiscountVisitor();
+		DiscountVisitor fused = new FusedDiscountVisitor().then(holiday).then(clearance);
+
+		long objectsTwoPass = Long.MAX_VALUE, objectsFused = Long.MAX_VALUE;
+		long columnsTwoPass = Long.MAX_VALUE, columnsFused = Long.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (Product product : objects) {
+				product.accept(holiday);
+			}
+			for (Product product : objects) {
+				product.accept(clearance);
+			}
+			objectsTwoPass = Math.min(objectsTwoPass, System.nanoTime() - start);
+
+			start = System.nanoTime();
+			for (Product product : objects) {
+				product.accept(fused);
+			}
+			objectsFused = Math.min(objectsFused, System.nanoTime() - start);
+
+			start = System.nanoTime();
+			engine.apply(catalog, holiday);
+			engine.apply(catalog, clearance);
+			columnsTwoPass = Math.min(columnsTwoPass, System.nanoTime() - start);
+
+			start = System.nanoTime();
+			engine.apply(catalog, fused);
+			columnsFused = Math.min(columnsFused, System.nanoTime() - start);
+		}
+		report("objects, two passes", objectsTwoPass, 2 * OBJECT_BYTES);
+		report("objects, fused", objectsFused, OBJECT_BYTES);
+		report("columns, two passes", columnsTwoPass, 2 * COLUMN_BYTES);
+		report("columns, fused", columnsFused, COLUMN_BYTES);
+	}
+
+	private static void report(String label, long nanos, long bytesPerProduct) {
+		long bytes = bytesPerProduct * PRODUCTS;
+		System.out.printf("%-20s %8.1f ms  %6d MB streamed  %6.2f GB/s%n",
+				label, nanos / 1e6, bytes >> 20, bytes / (double) nanos);
+	}
+
+}
@@ -0,0 +1,75 @@
+package BehavioralPattern.visitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+// Applies several DiscountVisitors to each product in one traversal, in the order they were
+// added. A stage may be limited to some products and may override the stages after it,
+// e.g. clearance pricing that replaces holiday pricing for the products it covers.
+public class FusedDiscountVisitor implements DiscountVisitor {
+	private final List<Stage> stages = new ArrayList<>();
+	private Stage[] order = new Stage[0];
+
+	private static class Stage {
+		final DiscountVisitor visitor;
+		final Predicate<Product> appliesTo;
+		final boolean overridesLater;
+
+		Stage(DiscountVisitor visitor, Predicate<Product> appliesTo, boolean overridesLater) {
+			this.visitor = visitor;
+			this.appliesTo = appliesTo;
+			this.overridesLater = overridesLater;
+		}
+	}
+
+	// Adds a stage that sees every product that reaches it
+	public FusedDiscountVisitor then(DiscountVisitor visitor) {
+		return then(visitor, null, false);
+	}
+
+	// Adds a stage for the products matching appliesTo (all when null); when overridesLater is
+	// set, products this stage handled skip every later stage
+	public FusedDiscountVisitor then(DiscountVisitor visitor, Predicate<Product> appliesTo, boolean overridesLater) {
+		stages.add(new Stage(visitor, appliesTo, overridesLater));
+		order = stages.toArray(new Stage[0]);
+		return this;
+	}
+
+	@Override
+	public void visitFood(Food food) {
+		for (Stage stage : order) {
+			if (stage.appliesTo == null || stage.appliesTo.test(food)) {
+				stage.visitor.visitFood(food);
+				if (stage.overridesLater) {
+					return;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void visitClothing(Clothing clothing) {
+		for (Stage stage : order) {
+			if (stage.appliesTo == null || stage.appliesTo.test(clothing)) {
+				stage.visitor.visitClothing(clothing);
+				if (stage.overridesLater) {
+					return;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void visitElectronics(Electronics electronics) {
+		for (Stage stage : order) {
+			if (stage.appliesTo == null || stage.appliesTo.test(electronics)) {
+				stage.visitor.visitElectronics(electronics);
+				if (stage.overridesLater) {
+					return;
+				}
+			}
+		}
+	}
+
+}
@@ -1,23 +1,9 @@
 package BehavioralPattern.visitor;
 
-public class HolidayDiscountVisitor implements DiscountVisitor {
-
-	@Override
-	public void visitFood(Food food) {
-		System.out.println("Applying holiday discount to food.");
-
-	}
-
-	@Override
-	public void visitClothing(Clothing clothing) {
-		System.out.println("Applying holiday discount to clothing.");
-
-	}
-
-	@Override
-	public void visitElectronics(Electronics electronics) {
-		System.out.println("Applying holiday discount to electronics.");
+public class HolidayDiscountVisitor extends RateDiscountVisitor {
 
+	public HolidayDiscountVisitor() {
+		super(0.10, 0.20, 0.15);
 	}
 
 }
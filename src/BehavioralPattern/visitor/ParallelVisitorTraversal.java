@@ -0,0 +1,70 @@
+package BehavioralPattern.visitor;
+
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+// Runs a ResultVisitor over a product collection on a ForkJoinPool. The collection's
+// Spliterator is split until pieces are small; each piece folds into its own partial
+// result, and partials are merged pairwise in encounter order as the tasks join.
+public class ParallelVisitorTraversal {
+	private static final long LEAF_SIZE = 10_000;
+
+	private final ForkJoinPool pool;
+
+	public ParallelVisitorTraversal() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	public ParallelVisitorTraversal(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	public <R> R visit(Collection<? extends Product> products, ResultVisitor<R> visitor) {
+		return pool.invoke(new VisitTask<>(products.spliterator(), visitor));
+	}
+
+	private static class VisitTask<R> extends RecursiveTask<R> {
+		private static final long serialVersionUID = 1L;
+		private final Spliterator<? extends Product> products;
+		private final ResultVisitor<R> visitor;
+
+		VisitTask(Spliterator<? extends Product> products, ResultVisitor<R> visitor) {
+			this.products = products;
+			this.visitor = visitor;
+		}
+
+		@Override
+		protected R compute() {
+			Spliterator<? extends Product> prefix;
+			if (products.estimateSize() > LEAF_SIZE && (prefix = products.trySplit()) != null) {
+				VisitTask<R> left = new VisitTask<>(prefix, visitor);
+				left.fork();
+				R right = new VisitTask<>(products, visitor).compute();
+				return visitor.merge(left.join(), right);
+			}
+			Fold<R> fold = new Fold<>(visitor);
+			products.forEachRemaining(fold);
+			return fold.partial;
+		}
+	}
+
+	// Folds the products of one leaf into that leaf's own partial result
+	private static class Fold<R> implements Consumer<Product> {
+		private final ResultVisitor<R> visitor;
+		private R partial;
+
+		Fold(ResultVisitor<R> visitor) {
+			this.visitor = visitor;
+			this.partial = visitor.identity();
+		}
+
+		@Override
+		public void accept(Product product) {
+			partial = product.accept(visitor, partial);
+		}
+	}
+
+}
@@ -2,5 +2,8 @@ package BehavioralPattern.visitor;
 
 public interface Product {
 	void accept(DiscountVisitor visitor);
+	<R> R accept(ResultVisitor<R> visitor, R partial);
+	double getPrice();
+	int getQuantity();
 
 }
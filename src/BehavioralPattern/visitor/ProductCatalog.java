@@ -0,0 +1,107 @@
+package BehavioralPattern.visitor;
+
+import java.util.Arrays;
+
+// Large catalog stored as struct-of-arrays: a type code, price and quantity column per row.
+// A copy of the columns grouped by product type is built on demand for CatalogDiscountEngine.
+public class ProductCatalog {
+	private byte[] types;
+	private double[] prices;
+	private int[] quantities;
+	private int size;
+
+	// Columns reordered so each product type is contiguous; rebuilt after any add
+	private double[] groupedPrices;
+	private int[] groupedQuantities;
+	private int[] groupStarts;
+
+	public ProductCatalog(int initialCapacity) {
+		int capacity = Math.max(16, initialCapacity);
+		types = new byte[capacity];
+		prices = new double[capacity];
+		quantities = new int[capacity];
+	}
+
+	public void add(ProductType type, double price, int quantity) {
+		if (size == types.length) {
+			int capacity = size * 2;
+			types = Arrays.copyOf(types, capacity);
+			prices = Arrays.copyOf(prices, capacity);
+			quantities = Arrays.copyOf(quantities, capacity);
+		}
+		types[size] = (byte) type.ordinal();
+		prices[size] = price;
+		quantities[size] = quantity;
+		size++;
+		groupStarts = null;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public ProductType getType(int row) {
+		return ProductType.values()[types[checked(row)]];
+	}
+
+	public double getPrice(int row) {
+		return prices[checked(row)];
+	}
+
+	public int getQuantity(int row) {
+		return quantities[checked(row)];
+	}
+
+	private int checked(int row) {
+		if (row < 0 || row >= size) {
+			throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+		}
+		return row;
+	}
+
+	// Stable counting sort of the rows by type code
+	private void group() {
+		int typeCount = ProductType.values().length;
+		int[] starts = new int[typeCount + 1];
+		for (int i = 0; i < size; i++) {
+			starts[types[i] + 1]++;
+		}
+		for (int t = 0; t < typeCount; t++) {
+			starts[t + 1] += starts[t];
+		}
+		int[] next = Arrays.copyOf(starts, typeCount);
+		double[] groupedPrice = new double[size];
+		int[] groupedQuantity = new int[size];
+		for (int i = 0; i < size; i++) {
+			int at = next[types[i]]++;
+			groupedPrice[at] = prices[i];
+			groupedQuantity[at] = quantities[i];
+		}
+		groupedPrices = groupedPrice;
+		groupedQuantities = groupedQuantity;
+		groupStarts = starts;
+	}
+
+	double[] groupedPrices() {
+		if (groupStarts == null) {
+			group();
+		}
+		return groupedPrices;
+	}
+
+	int[] groupedQuantities() {
+		if (groupStarts == null) {
+			group();
+		}
+		return groupedQuantities;
+	}
+
+	// groupStarts()[t] to groupStarts()[t + 1] is the range of type code t in the grouped columns
+	int[] groupStarts() {
+		if (groupStarts == null) {
+			group();
+		}
+		return groupStarts;
+	}
+
+}
@@ -0,0 +1,7 @@
+package BehavioralPattern.visitor;
+
+// Type codes for products stored in a ProductCatalog
+public enum ProductType {
+	FOOD, CLOTHING, ELECTRONICS
+
+}
@@ -0,0 +1,64 @@
+package BehavioralPattern.visitor;
+
+// Visitor that discounts each product category by a fixed rate and accumulates the cart total
+public abstract class RateDiscountVisitor implements DiscountVisitor {
+	private final double foodRate;
+	private final double clothingRate;
+	private final double electronicsRate;
+	private double total;
+	private double savings;
+
+	protected RateDiscountVisitor(double foodRate, double clothingRate, double electronicsRate) {
+		this.foodRate = foodRate;
+		this.clothingRate = clothingRate;
+		this.electronicsRate = electronicsRate;
+	}
+
+	private void add(Product product, double rate) {
+		double lineTotal = product.getPrice() * product.getQuantity();
+		double discount = lineTotal * rate;
+		total += lineTotal - discount;
+		savings += discount;
+	}
+
+	@Override
+	public void visitFood(Food food) {
+		add(food, foodRate);
+	}
+
+	@Override
+	public void visitClothing(Clothing clothing) {
+		add(clothing, clothingRate);
+	}
+
+	@Override
+	public void visitElectronics(Electronics electronics) {
+		add(electronics, electronicsRate);
+	}
+
+	public double getRate(ProductType type) {
+		switch (type) {
+		case FOOD:
+			return foodRate;
+		case CLOTHING:
+			return clothingRate;
+		default:
+			return electronicsRate;
+		}
+	}
+
+	// Discounted total of everything visited since the last reset
+	public double getTotal() {
+		return total;
+	}
+
+	public double getSavings() {
+		return savings;
+	}
+
+	public void reset() {
+		total = 0;
+		savings = 0;
+	}
+
+}
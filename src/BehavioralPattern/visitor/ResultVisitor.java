@@ -0,0 +1,13 @@
+package BehavioralPattern.visitor;
+
+// Visitor variant that returns results. Each visit folds one product into a partial result and
+// returns it; partial results from separate traversals are combined with merge. For totals that
+// do not depend on how the work was split, merge must be associative and exact.
+public interface ResultVisitor<R> {
+	R identity();
+	R visitFood(Food food, R partial);
+	R visitClothing(Clothing clothing, R partial);
+	R visitElectronics(Electronics electronics, R partial);
+	R merge(R left, R right);
+
+}
@@ -1,17 +1,50 @@
 package BehavioralPattern.visitor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class VisitorClient {
 	public static void main(String[] args) {
-        Product food = new Food();
-        Product clothing = new Clothing();
-        Product electronics = new Electronics();
+        Product food = new Food(4.50, 4);
+        Product clothing = new Clothing(39.99, 1);
+        Product electronics = new Electronics(249.00, 1);
 
-        DiscountVisitor holidayVisitor = new HolidayDiscountVisitor();
-        DiscountVisitor clearanceVisitor = new ClearanceDiscountVisitor();
+        RateDiscountVisitor holidayVisitor = new HolidayDiscountVisitor();
+        RateDiscountVisitor clearanceVisitor = new ClearanceDiscountVisitor();
 
         food.accept(holidayVisitor);
         clothing.accept(clearanceVisitor);
         electronics.accept(holidayVisitor);
+
+        System.out.printf("Holiday items: %.2f (saved %.2f)%n", holidayVisitor.getTotal(), holidayVisitor.getSavings());
+        System.out.printf("Clearance items: %.2f (saved %.2f)%n", clearanceVisitor.getTotal(), clearanceVisitor.getSavings());
+
+        // A larger cart priced group by group from columnar storage
+        ProductCatalog catalog = new ProductCatalog(4);
+        catalog.add(ProductType.ELECTRONICS, 99.00, 2);
+        catalog.add(ProductType.FOOD, 2.25, 10);
+        catalog.add(ProductType.CLOTHING, 19.99, 3);
+        holidayVisitor.reset();
+        new CatalogDiscountEngine().apply(catalog, holidayVisitor);
+        System.out.printf("Holiday catalog: %.2f (saved %.2f)%n", holidayVisitor.getTotal(), holidayVisitor.getSavings());
+
+        // Per-category breakdown computed on all cores and merged from per-thread partials
+        List<Product> cart = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            cart.add(i % 3 == 0 ? new Food(2.25, 2) : i % 3 == 1 ? new Clothing(19.99, 1) : new Electronics(99.00, 1));
+        }
+        DiscountBreakdown breakdown = new ParallelVisitorTraversal()
+                .visit(cart, new DiscountBreakdownVisitor(new ClearanceDiscountVisitor()));
+        System.out.println(breakdown);
+
+        // Holiday and clearance in one pass; clearance replaces holiday pricing on cheap items
+        RateDiscountVisitor fusedHoliday = new HolidayDiscountVisitor();
+        RateDiscountVisitor fusedClearance = new ClearanceDiscountVisitor();
+        DiscountVisitor fused = new FusedDiscountVisitor()
+                .then(fusedClearance, product -> product.getPrice() < 10, true)
+                .then(fusedHoliday);
+        new CatalogDiscountEngine().apply(catalog, fused);
+        System.out.printf("Fused: clearance %.2f, holiday %.2f%n", fusedClearance.getTotal(), fusedHoliday.getTotal());
     }
 
 }
@@ -14,6 +14,23 @@ public class AbstractFactoryClient {
 
         tea.serve();
         scone.serve();
+
+        // Stateless products come back as shared instances instead of new objects
+        PooledCafeFactory pooledFactory = new PooledCafeFactory(new CoffeeCafeFactory());
+        Drink first = pooledFactory.createDrink();
+        Drink second = pooledFactory.createDrink();
+        first.serve();
+        System.out.println("Same shared coffee instance: " + (first == second));
+        pooledFactory.release(first);
+        pooledFactory.release(second);
+
+        // Orders routed through the registry and served by a separate stage in batches
+        try (CafeOrderPipeline pipeline = new CafeOrderPipeline(CafeRegistry.standard(), System.out, 64, 16)) {
+            pipeline.submit(new CafeOrder(CafeType.TEA, 2, 1));
+            pipeline.submit(new CafeOrder(CafeType.COFFEE, 1, 2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
 }
@@ -4,4 +4,28 @@ public interface CafeFactory {
 	Drink createDrink();
     Pastry createPastry();
 
+    // Bulk forms; factories with shared or pooled products can fill the array more cheaply
+    default Drink[] createDrinks(int n) {
+        Drink[] drinks = new Drink[n];
+        for (int i = 0; i < n; i++) {
+            drinks[i] = createDrink();
+        }
+        return drinks;
+    }
+
+    default Pastry[] createPastries(int n) {
+        Pastry[] pastries = new Pastry[n];
+        for (int i = 0; i < n; i++) {
+            pastries[i] = createPastry();
+        }
+        return pastries;
+    }
+
+    // Hands products back once they have been served; factories that don't reuse products ignore it
+    default void release(Drink drink) {
+    }
+
+    default void release(Pastry pastry) {
+    }
+
 }
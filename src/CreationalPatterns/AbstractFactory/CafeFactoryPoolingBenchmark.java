@@ -0,0 +1,102 @@
+package CreationalPatterns.AbstractFactory;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+// Creates and releases products through plain and pooled factories, reporting bytes allocated
+// per order, allocation rate and garbage collection activity for each. Includes a stateful,
+// recyclable drink to exercise the pool itself, since the cafe's own products are stateless.
+public class CafeFactoryPoolingBenchmark {
+    private static final int ORDERS = 20_000_000;
+
+    // Drink with per-order state, to show recycling rather than sharing
+    static class CustomDrink extends Recyclable implements Drink {
+        int size;
+        int shots;
+
+        @Override
+        public String serving() {
+            return "Serving custom drink, size " + size + " with " + shots + " shots";
+        }
+
+        @Override
+        void recycle() {
+            size = 0;
+            shots = 0;
+        }
+    }
+
+    static class CustomDrinkFactory implements CafeFactory {
+        @Override
+        public Drink createDrink() {
+            return new CustomDrink();
+        }
+
+        @Override
+        public Pastry createPastry() {
+            return new CoffeePastry();
+        }
+    }
+
+    // Recently made products are kept reachable so allocations cannot be optimised away
+    private static final Object[] recent = new Object[1024];
+
+    public static void main(String[] args) {
+        for (int warmup = 0; warmup < 2; warmup++) {
+            run("warmup", new CoffeeCafeFactory(), null, ORDERS / 10, false);
+            run("warmup", new PooledCafeFactory(new CoffeeCafeFactory()), null, ORDERS / 10, false);
+            PooledCafeFactory pooled = new PooledCafeFactory(new CustomDrinkFactory());
+            run("warmup", pooled, pooled, ORDERS / 10, false);
+        }
+        run("plain coffee", new CoffeeCafeFactory(), null, ORDERS, true);
+        run("pooled coffee", new PooledCafeFactory(new CoffeeCafeFactory()), null, ORDERS, true);
+        run("plain custom", new CustomDrinkFactory(), null, ORDERS, true);
+        PooledCafeFactory pooledCustom = new PooledCafeFactory(new CustomDrinkFactory());
+        run("pooled custom", pooledCustom, pooledCustom, ORDERS, true);
+    }
+
+    private static void run(String label, CafeFactory factory, PooledCafeFactory pool, int orders, boolean report) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long gcCountBefore = gcCount(), gcTimeBefore = gcTime();
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < orders; i++) {
+            Drink drink = factory.createDrink();
+            Pastry pastry = factory.createPastry();
+            if (drink instanceof CustomDrink) {
+                ((CustomDrink) drink).size = i & 3;
+            }
+            recent[i & (recent.length - 1)] = drink;
+            recent[(i + 512) & (recent.length - 1)] = pastry;
+            if (pool != null) {
+                pool.release(drink);
+                pool.release(pastry);
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+        if (report) {
+            System.out.printf("%-14s %6.1f bytes/order  %8.1f MB/s allocated  %4d GCs  %5d ms in GC  %6.1f ns/order%n",
+                    label, (double) allocated / orders, allocated / 1e6 / (nanos / 1e9),
+                    gcCount() - gcCountBefore, gcTime() - gcTimeBefore, (double) nanos / orders);
+        }
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += gc.getCollectionCount();
+        }
+        return count;
+    }
+
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += gc.getCollectionTime();
+        }
+        return time;
+    }
+
+}
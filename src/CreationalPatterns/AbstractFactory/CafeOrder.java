@@ -0,0 +1,46 @@
+package CreationalPatterns.AbstractFactory;
+
+// An order for a number of drinks and pastries from one cafe type
+public class CafeOrder {
+	private final CafeType cafeType;
+	private final int drinks;
+	private final int pastries;
+	// Set by CafeOrderPipeline when the order enters and leaves it
+	volatile long submittedNanos;
+	volatile long servedNanos;
+	// Set by CafeOrderPipeline when preparing or serving the order threw
+	volatile RuntimeException failure;
+
+	public CafeOrder(CafeType cafeType, int drinks, int pastries) {
+		if (drinks < 0 || pastries < 0) {
+			throw new IllegalArgumentException("Negative item count: " + drinks + " drinks, " + pastries + " pastries");
+		}
+		this.cafeType = cafeType;
+		this.drinks = drinks;
+		this.pastries = pastries;
+	}
+
+	public CafeType getCafeType() {
+		return cafeType;
+	}
+
+	public int getDrinks() {
+		return drinks;
+	}
+
+	public int getPastries() {
+		return pastries;
+	}
+
+	// Exception that stopped the order from being served, or null
+	public RuntimeException getFailure() {
+		return failure;
+	}
+
+	// Nanoseconds from submission to serving, or -1 if the order has not been served
+	public long getLatencyNanos() {
+		long served = servedNanos;
+		return served == 0 ? -1 : served - submittedNanos;
+	}
+
+}
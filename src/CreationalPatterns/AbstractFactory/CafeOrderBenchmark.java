@@ -0,0 +1,90 @@
+package CreationalPatterns.AbstractFactory;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Random;
+
+// Serves the same stream of orders one at a time, the way AbstractFactoryClient does, and through
+// CafeOrderPipeline, reporting end-to-end orders per second and p99 latency. Output goes to a
+// null stream so printing calls are timed, not the terminal. Orders are submitted as fast as
+// possible, so pipeline latency includes time spent queued behind earlier orders.
+public class CafeOrderBenchmark {
+	private static final int ORDERS = 2_000_000;
+
+	public static void main(String[] args) {
+		PrintStream console = System.out;
+		PrintStream nowhere = new PrintStream(OutputStream.nullOutputStream());
+		for (int round = 0; round < 3; round++) {
+			CafeOrder[] direct = orders();
+			CafeOrder[] pipelined = orders();
+			System.setOut(nowhere);
+			long directNanos;
+			try {
+				directNanos = runDirect(direct);
+			} finally {
+				System.setOut(console);
+			}
+			long pipelineNanos = runPipeline(pipelined, nowhere);
+			if (round == 2) {
+				report("one at a time", direct, directNanos);
+				report("pipeline", pipelined, pipelineNanos);
+			}
+		}
+	}
+
+	static CafeOrder[] orders() {
+		Random random = new Random(11);
+		CafeOrder[] orders = new CafeOrder[ORDERS];
+		for (int i = 0; i < ORDERS; i++) {
+			orders[i] = new CafeOrder(random.nextBoolean() ? CafeType.COFFEE : CafeType.TEA,
+					1 + random.nextInt(3), random.nextInt(3));
+		}
+		return orders;
+	}
+
+	static long runDirect(CafeOrder[] orders) {
+		long start = System.nanoTime();
+		for (CafeOrder order : orders) {
+			order.submittedNanos = System.nanoTime();
+			CafeFactory factory;
+			if (order.getCafeType() == CafeType.COFFEE) {
+				factory = new CoffeeCafeFactory();
+			} else {
+				factory = new TeaCafeFactory();
+			}
+			for (int i = 0; i < order.getDrinks(); i++) {
+				factory.createDrink().serve();
+			}
+			for (int i = 0; i < order.getPastries(); i++) {
+				factory.createPastry().serve();
+			}
+			order.servedNanos = System.nanoTime();
+		}
+		return System.nanoTime() - start;
+	}
+
+	static long runPipeline(CafeOrder[] orders, PrintStream out) {
+		long start = System.nanoTime();
+		try (CafeOrderPipeline pipeline = new CafeOrderPipeline(CafeRegistry.standard(), out, 4096, 256)) {
+			for (CafeOrder order : orders) {
+				pipeline.submit(order);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return System.nanoTime() - start;
+	}
+
+	static void report(String label, CafeOrder[] orders, long nanos) {
+		long[] latencies = new long[orders.length];
+		for (int i = 0; i < orders.length; i++) {
+			latencies[i] = orders[i].getLatencyNanos();
+		}
+		Arrays.sort(latencies);
+		long p99 = latencies[(int) Math.ceil(latencies.length * 0.99) - 1];
+		System.out.printf("%-14s %,12.0f orders/s   p99 %,10.1f us%n",
+				label, orders.length * 1e9 / nanos, p99 / 1e3);
+	}
+
+}
@@ -0,0 +1,199 @@
+package CreationalPatterns.AbstractFactory;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Three-stage order engine: callers submit orders; a preparation thread takes them in batches,
+// routes each through the CafeRegistry and creates its products in bulk; a serving thread takes
+// prepared orders in batches and writes each batch's serving lines to the output in one call.
+// Served products are released back to their factory. An order whose preparation or serving
+// throws is skipped: the exception is kept on the order, counted and reported to System.err.
+public class CafeOrderPipeline implements AutoCloseable {
+	private static final CafeOrder END = new CafeOrder(CafeType.COFFEE, 0, 0);
+
+	private final CafeRegistry registry;
+	private final PrintStream out;
+	private final int batchSize;
+	private final BlockingQueue<CafeOrder> orders;
+	private final BlockingQueue<PreparedOrder> prepared;
+	private final Thread preparer;
+	private final Thread server;
+	private final LongAdder failed = new LongAdder();
+	// Submitters share the read lock; close() takes the write lock so END is always the last order
+	private final ReadWriteLock closing = new ReentrantReadWriteLock();
+	private boolean closed;
+
+	private static class PreparedOrder {
+		final CafeOrder order;
+		final CafeFactory factory;
+		final Drink[] drinks;
+		final Pastry[] pastries;
+
+		PreparedOrder(CafeOrder order, CafeFactory factory, Drink[] drinks, Pastry[] pastries) {
+			this.order = order;
+			this.factory = factory;
+			this.drinks = drinks;
+			this.pastries = pastries;
+		}
+	}
+
+	public CafeOrderPipeline(CafeRegistry registry, PrintStream out, int queueCapacity, int batchSize) {
+		this.registry = registry;
+		this.out = out;
+		this.batchSize = batchSize;
+		this.orders = new ArrayBlockingQueue<>(queueCapacity);
+		this.prepared = new ArrayBlockingQueue<>(queueCapacity);
+		this.preparer = new Thread(this::prepare, "cafe-prepare");
+		this.server = new Thread(this::serve, "cafe-serve");
+		preparer.start();
+		server.start();
+	}
+
+	// Blocks while the pipeline is full; orders for unregistered cafes are refused here, as are
+	// orders submitted after close()
+	public void submit(CafeOrder order) throws InterruptedException {
+		registry.factoryFor(order.getCafeType());
+		closing.readLock().lock();
+		try {
+			if (closed) {
+				throw new IllegalStateException("Pipeline is closed");
+			}
+			order.submittedNanos = System.nanoTime();
+			orders.put(order);
+		} finally {
+			closing.readLock().unlock();
+		}
+	}
+
+	// Orders that failed in either stage so far
+	public long getFailedCount() {
+		return failed.sum();
+	}
+
+	private void prepare() {
+		List<CafeOrder> batch = new ArrayList<>(batchSize);
+		try {
+			while (true) {
+				batch.add(orders.take());
+				orders.drainTo(batch, batchSize - 1);
+				for (CafeOrder order : batch) {
+					if (order == END) {
+						prepared.put(new PreparedOrder(END, null, null, null));
+						return;
+					}
+					PreparedOrder item;
+					try {
+						CafeFactory factory = registry.factoryFor(order.getCafeType());
+						item = new PreparedOrder(order, factory, factory.createDrinks(order.getDrinks()),
+								factory.createPastries(order.getPastries()));
+					} catch (RuntimeException e) {
+						fail(order, e);
+						continue;
+					}
+					prepared.put(item);
+				}
+				batch.clear();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void serve() {
+		List<PreparedOrder> batch = new ArrayList<>(batchSize);
+		StringBuilder output = new StringBuilder();
+		try {
+			while (true) {
+				batch.add(prepared.take());
+				prepared.drainTo(batch, batchSize - 1);
+				boolean finished = false;
+				for (PreparedOrder item : batch) {
+					if (item.order == END) {
+						finished = true;
+						break;
+					}
+					int mark = output.length();
+					try {
+						for (Drink drink : item.drinks) {
+							output.append(drink.serving()).append(System.lineSeparator());
+						}
+						for (Pastry pastry : item.pastries) {
+							output.append(pastry.serving()).append(System.lineSeparator());
+						}
+					} catch (RuntimeException e) {
+						output.setLength(mark);
+						fail(item.order, e);
+					}
+				}
+				out.print(output);
+				output.setLength(0);
+				long now = System.nanoTime();
+				for (PreparedOrder item : batch) {
+					if (item.order == END) {
+						continue;
+					}
+					if (item.order.failure == null) {
+						item.order.servedNanos = now;
+					}
+					release(item);
+				}
+				batch.clear();
+				if (finished) {
+					out.flush();
+					return;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// Products of a failed order are released too; the order will not be retried
+	private void release(PreparedOrder item) {
+		try {
+			for (Drink drink : item.drinks) {
+				item.factory.release(drink);
+			}
+			for (Pastry pastry : item.pastries) {
+				item.factory.release(pastry);
+			}
+		} catch (RuntimeException e) {
+			System.err.println("Could not release products of " + item.order.getCafeType() + " order: " + e);
+		}
+	}
+
+	private void fail(CafeOrder order, RuntimeException e) {
+		order.failure = e;
+		failed.increment();
+		System.err.println(order.getCafeType() + " order failed: " + e);
+	}
+
+	// Serves every order already submitted, then stops both stages. Later submits are rejected.
+	@Override
+	public void close() {
+		closing.writeLock().lock();
+		boolean first;
+		try {
+			first = !closed;
+			closed = true;
+		} finally {
+			closing.writeLock().unlock();
+		}
+		try {
+			if (first) {
+				orders.put(END);
+			}
+			preparer.join();
+			server.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,30 @@
+package CreationalPatterns.AbstractFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// Pre-built CafeType to CafeFactory lookup, so orders are routed without if/new chains
+public class CafeRegistry {
+	private final Map<CafeType, CafeFactory> factories = new EnumMap<>(CafeType.class);
+
+	// Registry with the pooled coffee and tea factories
+	public static CafeRegistry standard() {
+		CafeRegistry registry = new CafeRegistry();
+		registry.register(CafeType.COFFEE, new PooledCafeFactory(new CoffeeCafeFactory()));
+		registry.register(CafeType.TEA, new PooledCafeFactory(new TeaCafeFactory()));
+		return registry;
+	}
+
+	public void register(CafeType type, CafeFactory factory) {
+		factories.put(type, factory);
+	}
+
+	public CafeFactory factoryFor(CafeType type) {
+		CafeFactory factory = factories.get(type);
+		if (factory == null) {
+			throw new IllegalArgumentException("No factory registered for " + type);
+		}
+		return factory;
+	}
+
+}
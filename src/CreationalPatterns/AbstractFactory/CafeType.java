@@ -0,0 +1,6 @@
+package CreationalPatterns.AbstractFactory;
+
+public enum CafeType {
+	COFFEE, TEA
+
+}
@@ -1,11 +1,10 @@
 package CreationalPatterns.AbstractFactory;
 
-public class CoffeeDrink implements Drink {
+public class CoffeeDrink implements Drink, StatelessProduct {
 
 	@Override
-	public void serve() {
-		System.out.println("Serving Coffee");
-
+	public String serving() {
+		return "Serving Coffee";
 	}
 
 }
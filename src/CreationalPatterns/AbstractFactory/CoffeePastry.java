@@ -1,11 +1,10 @@
 package CreationalPatterns.AbstractFactory;
 
-public class CoffeePastry implements Pastry {
+public class CoffeePastry implements Pastry, StatelessProduct {
 
 	@Override
-	public void serve() {
-		System.out.println("Serving Croissant");
-
+	public String serving() {
+		return "Serving Croissant";
 	}
 
 }
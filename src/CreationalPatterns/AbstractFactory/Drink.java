@@ -2,5 +2,10 @@ package CreationalPatterns.AbstractFactory;
 
 //Abstract Product Interfaces
 interface Drink {
- void serve();
-}
\ No newline at end of file
+ // Line printed when the drink is served
+ String serving();
+
+ default void serve() {
+     System.out.println(serving());
+ }
+}
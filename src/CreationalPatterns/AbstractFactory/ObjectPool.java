@@ -0,0 +1,38 @@
+package CreationalPatterns.AbstractFactory;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+// Two-level pool: a small free list per thread, backed by a bounded pool shared by all threads.
+// Neither level allocates when objects are taken or returned.
+class ObjectPool<T> {
+    private static final int LOCAL_CAPACITY = 64;
+
+    private final Supplier<T> factory;
+    private final ThreadLocal<ArrayDeque<T>> local = ThreadLocal.withInitial(() -> new ArrayDeque<>(LOCAL_CAPACITY));
+    private final ArrayBlockingQueue<T> shared;
+
+    ObjectPool(Supplier<T> factory, int sharedCapacity) {
+        this.factory = factory;
+        this.shared = new ArrayBlockingQueue<>(sharedCapacity);
+    }
+
+    T take() {
+        T item = local.get().pollFirst();
+        if (item == null) {
+            item = shared.poll();
+        }
+        return item != null ? item : factory.get();
+    }
+
+    // Objects that fit in neither level are left to the garbage collector
+    void release(T item) {
+        ArrayDeque<T> free = local.get();
+        if (free.size() < LOCAL_CAPACITY) {
+            free.addFirst(item);
+        } else {
+            shared.offer(item);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package CreationalPatterns.AbstractFactory;
 
 interface Pastry {
-    void serve();
-}
\ No newline at end of file
+    // Line printed when the pastry is served
+    String serving();
+
+    default void serve() {
+        System.out.println(serving());
+    }
+}
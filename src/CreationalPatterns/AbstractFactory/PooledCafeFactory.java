@@ -0,0 +1,105 @@
+package CreationalPatterns.AbstractFactory;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+// Decorator that stops a CafeFactory from allocating a product per order. Stateless products are
+// created once and shared. Recyclable products are reset on release and reused, from a per-thread
+// free list first and a shared overflow pool second. Other products pass through unchanged.
+public class PooledCafeFactory implements CafeFactory {
+    private static final int SHARED_CAPACITY = 1024;
+
+    private final Slot<Drink> drinks;
+    private final Slot<Pastry> pastries;
+
+    public PooledCafeFactory(CafeFactory factory) {
+        this.drinks = new Slot<>(factory::createDrink);
+        this.pastries = new Slot<>(factory::createPastry);
+    }
+
+    @Override
+    public Drink createDrink() {
+        return drinks.take();
+    }
+
+    @Override
+    public Pastry createPastry() {
+        return pastries.take();
+    }
+
+    @Override
+    public Drink[] createDrinks(int n) {
+        return drinks.fill(new Drink[n]);
+    }
+
+    @Override
+    public Pastry[] createPastries(int n) {
+        return pastries.fill(new Pastry[n]);
+    }
+
+    // Hands a drink back once it has been served; it must not be used afterwards
+    @Override
+    public void release(Drink drink) {
+        drinks.release(drink);
+    }
+
+    @Override
+    public void release(Pastry pastry) {
+        pastries.release(pastry);
+    }
+
+    // One product kind. The first product made decides whether the kind is shared or pooled;
+    // afterwards only exact class comparisons are made, avoiding interface type checks per order.
+    private static class Slot<T> {
+        private final ObjectPool<T> pool;
+        private volatile T shared;
+        private volatile Class<?> recyclableClass;
+
+        Slot(Supplier<T> factory) {
+            this.pool = new ObjectPool<>(factory, SHARED_CAPACITY);
+        }
+
+        T take() {
+            T product = shared;
+            if (product != null) {
+                return product;
+            }
+            product = pool.take();
+            if (product.getClass() == recyclableClass) {
+                ((Recyclable) product).markTaken();
+            } else if (recyclableClass == null) {
+                if (product instanceof StatelessProduct) {
+                    shared = product;
+                } else if (product instanceof Recyclable) {
+                    recyclableClass = product.getClass();
+                }
+            }
+            return product;
+        }
+
+        T[] fill(T[] products) {
+            T product = shared;
+            if (product != null) {
+                Arrays.fill(products, product);
+            } else {
+                for (int i = 0; i < products.length; i++) {
+                    products[i] = take();
+                }
+            }
+            return products;
+        }
+
+        // A second release of the same product is rejected, so two orders can never share it
+        void release(T product) {
+            if (product.getClass() == recyclableClass) {
+                Recyclable recyclable = (Recyclable) product;
+                if (!recyclable.markPooled()) {
+                    throw new IllegalStateException("Product was already released: " + product);
+                }
+                recyclable.recycle();
+                pool.release(product);
+            }
+        }
+    }
+
+}
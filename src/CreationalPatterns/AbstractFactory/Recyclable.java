@@ -0,0 +1,23 @@
+package CreationalPatterns.AbstractFactory;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+// Stateful products that can be reset and handed out again by a PooledCafeFactory. A class rather
+// than an interface so each product can carry the flag that stops it being pooled twice.
+abstract class Recyclable {
+    private static final AtomicIntegerFieldUpdater<Recyclable> POOLED =
+            AtomicIntegerFieldUpdater.newUpdater(Recyclable.class, "pooled");
+
+    private volatile int pooled;
+
+    abstract void recycle();
+
+    // False if the product was already in the pool
+    boolean markPooled() {
+        return POOLED.compareAndSet(this, 0, 1);
+    }
+
+    void markTaken() {
+        pooled = 0;
+    }
+}
@@ -0,0 +1,5 @@
+package CreationalPatterns.AbstractFactory;
+
+// Marks products that hold no state, so one instance can be shared by every order
+interface StatelessProduct {
+}
@@ -1,11 +1,10 @@
 package CreationalPatterns.AbstractFactory;
 
-public class TeaDrink implements Drink {
+public class TeaDrink implements Drink, StatelessProduct {
 
 	@Override
-	public void serve() {
-		System.out.println("Serving Tea");
-
+	public String serving() {
+		return "Serving Tea";
 	}
 
 }
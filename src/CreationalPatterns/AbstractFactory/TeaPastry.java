@@ -1,11 +1,10 @@
 package CreationalPatterns.AbstractFactory;
 
-public class TeaPastry implements Pastry {
+public class TeaPastry implements Pastry, StatelessProduct {
 
 	@Override
-	public void serve() {
-		System.out.println("Serving Scone");
-
+	public String serving() {
+		return "Serving Scone";
 	}
 
 }
@@ -11,6 +11,19 @@ public class BuilderPatternClient {
 	     Pizza pizza = waiter.getPizza();
 	     pizza.showPizza();
 
+	     // Same order kept in its packed, immutable form
+	     CompactPizza compactPizza = waiter.getCompactPizza();
+	     System.out.println("Packed as " + compactPizza + ", toppings: " + compactPizza.getToppingCount());
+
+	     // Repeat orders of a fixed recipe come from the cache; customising copies one long
+	     PizzaRecipeCache cache = new PizzaRecipeCache(64);
+	     ConcurrentWaiter cachedWaiter = new ConcurrentWaiter(cache);
+	     for (int i = 0; i < 3; i++) {
+	         cachedWaiter.constructPizza(HawaiianPizzaBuilder.class);
+	     }
+	     cachedWaiter.constructPizza(HawaiianPizzaBuilder.class).with(Topping.OLIVE).showPizza();
+	     System.out.println("Cache hits: " + cache.getHitCount() + ", misses: " + cache.getMissCount());
+
 	        
 
 	}
@@ -0,0 +1,129 @@
+package CreationalPatterns.builder;
+
+// Immutable pizza packed into a single long: bits 0-3 hold the size code, bits 4-7 the crust
+// code (0 meaning not chosen, otherwise ordinal + 1) and bits 8-63 a bitset over Topping.
+public final class CompactPizza {
+	static final int MAX_TOPPINGS = 56;
+	private static final int CRUST_SHIFT = 4;
+	private static final int TOPPING_SHIFT = 8;
+
+	static {
+		if (Topping.values().length > MAX_TOPPINGS) {
+			throw new ExceptionInInitializerError("Too many toppings to encode: " + Topping.values().length);
+		}
+	}
+
+	private final long bits;
+
+	private CompactPizza(long bits) {
+		this.bits = bits;
+	}
+
+	public static CompactPizza of(PizzaSize size, Crust crust, Topping... toppings) {
+		long bits = withCrust(withSize(0L, size), crust);
+		for (Topping topping : toppings) {
+			bits = withTopping(bits, topping);
+		}
+		return new CompactPizza(bits);
+	}
+
+	// Wraps bits produced by the with* methods
+	static CompactPizza fromBits(long bits) {
+		return new CompactPizza(bits);
+	}
+
+	static long withSize(long bits, PizzaSize size) {
+		return (bits & ~0xFL) | (size.ordinal() + 1);
+	}
+
+	static long withCrust(long bits, Crust crust) {
+		return (bits & ~(0xFL << CRUST_SHIFT)) | ((long) (crust.ordinal() + 1) << CRUST_SHIFT);
+	}
+
+	static long withTopping(long bits, Topping topping) {
+		return bits | (1L << (TOPPING_SHIFT + topping.ordinal()));
+	}
+
+	public long getBits() {
+		return bits;
+	}
+
+	// Null when no size was chosen
+	public PizzaSize getSize() {
+		int code = (int) (bits & 0xF);
+		return code == 0 ? null : PizzaSize.values()[code - 1];
+	}
+
+	// Null when no crust was chosen
+	public Crust getCrust() {
+		int code = (int) ((bits >>> CRUST_SHIFT) & 0xF);
+		return code == 0 ? null : Crust.values()[code - 1];
+	}
+
+	public boolean hasTopping(Topping topping) {
+		return (bits & (1L << (TOPPING_SHIFT + topping.ordinal()))) != 0;
+	}
+
+	public int getToppingCount() {
+		return Long.bitCount(bits >>> TOPPING_SHIFT);
+	}
+
+	// Toppings joined as "Ham and Pineapple", or "default" when there are none
+	public String getToppingsLabel() {
+		StringBuilder label = new StringBuilder();
+		for (Topping topping : Topping.values()) {
+			if (hasTopping(topping)) {
+				if (label.length() > 0) {
+					label.append(" and ");
+				}
+				label.append(topping.getLabel());
+			}
+		}
+		return label.length() == 0 ? "default" : label.toString();
+	}
+
+	// Copies with one attribute changed; the cheap way to customise a shared pizza
+	public CompactPizza with(PizzaSize size) {
+		return new CompactPizza(withSize(bits, size));
+	}
+
+	public CompactPizza with(Crust crust) {
+		return new CompactPizza(withCrust(bits, crust));
+	}
+
+	public CompactPizza with(Topping topping) {
+		return new CompactPizza(withTopping(bits, topping));
+	}
+
+	public CompactPizza without(Topping topping) {
+		return new CompactPizza(bits & ~(1L << (TOPPING_SHIFT + topping.ordinal())));
+	}
+
+	// Mutable Pizza with the same size, crust and toppings
+	public Pizza toPizza() {
+		PizzaSize size = getSize();
+		Crust crust = getCrust();
+		return new Pizza(size == null ? "default" : size.getLabel(), crust == null ? "default" : crust.getLabel(),
+				getToppingsLabel());
+	}
+
+	public void showPizza() {
+		toPizza().showPizza();
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof CompactPizza && ((CompactPizza) other).bits == bits;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(bits);
+	}
+
+	@Override
+	public String toString() {
+		return "CompactPizza[" + Long.toHexString(bits) + "]";
+	}
+
+}
@@ -0,0 +1,62 @@
+package CreationalPatterns.builder;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Thread-safe director. The builder type is chosen per call, and every thread gets its own
+// builder instance of each type, reused across its orders, so concurrent orders never share a
+// builder. Results are immutable CompactPizzas. Builder types need a no-argument constructor.
+public class ConcurrentWaiter {
+    private final ClassValue<ThreadLocal<PizzaBuilder>> builders = new ClassValue<ThreadLocal<PizzaBuilder>>() {
+        @Override
+        protected ThreadLocal<PizzaBuilder> computeValue(Class<?> type) {
+            Constructor<?> constructor;
+            try {
+                constructor = type.getDeclaredConstructor();
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException(type.getName() + " has no no-argument constructor", e);
+            }
+            return ThreadLocal.withInitial(() -> newBuilder(constructor));
+        }
+    };
+
+    private static PizzaBuilder newBuilder(Constructor<?> constructor) {
+        try {
+            return (PizzaBuilder) constructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException("Cannot create " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+
+    private final PizzaRecipeCache cache;
+
+    public ConcurrentWaiter() {
+        this(null);
+    }
+
+    // Serves repeat orders of deterministic recipes from cache instead of rebuilding them
+    public ConcurrentWaiter(PizzaRecipeCache cache) {
+        this.cache = cache;
+    }
+
+    public CompactPizza constructPizza(Class<? extends PizzaBuilder> builderType) {
+        PizzaBuilder builder = builders.get(builderType).get();
+        return cache != null ? cache.get(builder) : build(builder);
+    }
+
+    static CompactPizza build(PizzaBuilder builder) {
+        builder.createNewPizzaProduct();
+        builder.buildSize();
+        builder.buildCrust();
+        builder.buildToppings();
+        return builder.getCompactPizza();
+    }
+
+    // Builds the orders in parallel; the result keeps the order of the input list
+    public List<CompactPizza> constructPizzas(List<Class<? extends PizzaBuilder>> orders) {
+        return orders.parallelStream().map(this::constructPizza).collect(Collectors.toList());
+    }
+
+}
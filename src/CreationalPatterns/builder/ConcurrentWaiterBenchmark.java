@@ -0,0 +1,47 @@
+package CreationalPatterns.builder;
+
+// Pizzas served per second by ConcurrentWaiter with 1 to 64 threads ordering at once, building
+// every pizza and then serving repeat recipes from a PizzaRecipeCache
+public class ConcurrentWaiterBenchmark {
+    private static final int[] THREAD_COUNTS = { 1, 2, 4, 8, 16, 32, 64 };
+    private static final int TOTAL_ORDERS = 20_000_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentWaiter waiter = new ConcurrentWaiter();
+        PizzaRecipeCache cache = new PizzaRecipeCache(16);
+        ConcurrentWaiter cached = new ConcurrentWaiter(cache);
+        run(waiter, 4);
+        run(cached, 4);
+        for (int threads : THREAD_COUNTS) {
+            System.out.printf("threads=%-3d built %,15.0f pizzas/s   cached %,15.0f pizzas/s%n", threads,
+                    run(waiter, threads), run(cached, threads));
+        }
+        System.out.printf("cache hit rate %.4f%n", cache.getHitRate());
+    }
+
+    private static double run(ConcurrentWaiter waiter, int threadCount) throws InterruptedException {
+        int perThread = TOTAL_ORDERS / threadCount;
+        long[] sinks = new long[threadCount];
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            int index = t;
+            threads[t] = new Thread(() -> {
+                long sink = 0;
+                for (int i = 0; i < perThread; i++) {
+                    sink += waiter.constructPizza((i & 1) == 0 ? HawaiianPizzaBuilder.class
+                            : MargheritaPizzaBuilder.class).getBits();
+                }
+                sinks[index] = sink;
+            });
+        }
+        long start = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return (double) perThread * threadCount * 1e9 / (System.nanoTime() - start);
+    }
+
+}
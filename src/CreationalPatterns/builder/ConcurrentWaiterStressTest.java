@@ -0,0 +1,82 @@
+package CreationalPatterns.builder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Has many threads order Hawaiian and Margherita pizzas at once and checks every result against
+// the recipe it was ordered from. Runs the shared Waiter for contrast, which does mix orders up,
+// then ConcurrentWaiter, which must not. Exits with status 1 if ConcurrentWaiter mixes any order.
+public class ConcurrentWaiterStressTest {
+    private static final int THREADS = 16;
+    private static final int ORDERS_PER_THREAD = 200_000;
+
+    private static final CompactPizza HAWAIIAN = CompactPizza.of(PizzaSize.LARGE, Crust.THIN, Topping.HAM,
+            Topping.PINEAPPLE);
+    private static final CompactPizza MARGHERITA = CompactPizza.of(PizzaSize.MEDIUM, Crust.THICK,
+            Topping.MOZZARELLA, Topping.BASIL);
+
+    public static void main(String[] args) throws InterruptedException {
+        Waiter shared = new Waiter();
+        long sharedBad = run(hawaiian -> {
+            // One director and builder for everyone, as Waiter is normally used
+            synchronized (shared) {
+                shared.setPizzaBuilder(hawaiian ? new HawaiianPizzaBuilder() : new MargheritaPizzaBuilder());
+            }
+            shared.constructPizza();
+            return shared.getCompactPizza();
+        });
+        System.out.println("shared Waiter:    " + sharedBad + " contaminated orders");
+
+        ConcurrentWaiter waiter = new ConcurrentWaiter();
+        long concurrentBad = run(hawaiian -> waiter.constructPizza(
+                hawaiian ? HawaiianPizzaBuilder.class : MargheritaPizzaBuilder.class));
+        System.out.println("ConcurrentWaiter: " + concurrentBad + " contaminated orders");
+
+        int batch = 100_000;
+        List<Class<? extends PizzaBuilder>> orders = new ArrayList<>(batch);
+        for (int i = 0; i < batch; i++) {
+            orders.add(i % 2 == 0 ? HawaiianPizzaBuilder.class : MargheritaPizzaBuilder.class);
+        }
+        List<CompactPizza> pizzas = waiter.constructPizzas(orders);
+        for (int i = 0; i < batch; i++) {
+            if (!pizzas.get(i).equals(i % 2 == 0 ? HAWAIIAN : MARGHERITA)) {
+                concurrentBad++;
+            }
+        }
+        System.out.println("constructPizzas:  " + batch + " orders checked");
+        if (concurrentBad != 0) {
+            System.exit(1);
+        }
+    }
+
+    interface Order {
+        CompactPizza place(boolean hawaiian);
+    }
+
+    // Returns how many pizzas did not match the recipe they were ordered from
+    private static long run(Order order) throws InterruptedException {
+        AtomicLong bad = new AtomicLong();
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            threads[t] = new Thread(() -> {
+                long mismatches = 0;
+                for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                    boolean hawaiian = ThreadLocalRandom.current().nextBoolean();
+                    CompactPizza pizza = order.place(hawaiian);
+                    if (!pizza.equals(hawaiian ? HAWAIIAN : MARGHERITA)) {
+                        mismatches++;
+                    }
+                }
+                bad.addAndGet(mismatches);
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return bad.get();
+    }
+
+}
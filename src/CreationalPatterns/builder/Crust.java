@@ -0,0 +1,16 @@
+package CreationalPatterns.builder;
+
+public enum Crust {
+	THIN("Thin"), THICK("Thick"), STUFFED("Stuffed"), GLUTEN_FREE("Gluten Free");
+
+	private final String label;
+
+	Crust(String label) {
+		this.label = label;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+}
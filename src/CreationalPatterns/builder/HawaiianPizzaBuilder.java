@@ -4,17 +4,23 @@ package CreationalPatterns.builder;
 public class HawaiianPizzaBuilder extends PizzaBuilder {
 	@Override
     public void buildSize() {
-        pizza.setSize("Large");
+        size(PizzaSize.LARGE);
     }
 
     @Override
     public void buildCrust() {
-        pizza.setCrust("Thin");
+        crust(Crust.THIN);
     }
 
     @Override
     public void buildToppings() {
-        pizza.setToppings("Ham and Pineapple");
+        topping(Topping.HAM);
+        topping(Topping.PINEAPPLE);
+    }
+
+    @Override
+    protected Object recipeKey() {
+        return "hawaiian";
     }
 
 }
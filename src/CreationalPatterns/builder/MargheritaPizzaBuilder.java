@@ -0,0 +1,26 @@
+package CreationalPatterns.builder;
+
+// Concrete builder class for Margherita Pizza
+public class MargheritaPizzaBuilder extends PizzaBuilder {
+	@Override
+    public void buildSize() {
+        size(PizzaSize.MEDIUM);
+    }
+
+    @Override
+    public void buildCrust() {
+        crust(Crust.THICK);
+    }
+
+    @Override
+    public void buildToppings() {
+        topping(Topping.MOZZARELLA);
+        topping(Topping.BASIL);
+    }
+
+    @Override
+    protected Object recipeKey() {
+        return "margherita";
+    }
+
+}
@@ -1,17 +1,41 @@
 package CreationalPatterns.builder;
 
+// Build steps write size, crust and toppings as codes straight into one long,
+// so starting a new pizza allocates nothing.
 public abstract class PizzaBuilder {
 	public abstract void buildSize();
     public abstract void buildCrust();
     public abstract void buildToppings();
-	protected Pizza pizza;
+	private long bits;
 	
 	public Pizza getPizza() {
-        return pizza;
+        return getCompactPizza().toPizza();
+    }
+
+    public CompactPizza getCompactPizza() {
+        return CompactPizza.fromBits(bits);
     }
 
     public void createNewPizzaProduct() {
-        pizza = new Pizza("default", "default", "default");
+        bits = 0L;
     }  
 
+    // Identifies this builder's recipe when it always yields the same pizza, so the result can be
+    // memoized by PizzaRecipeCache; null (the default) means every build must run
+    protected Object recipeKey() {
+        return null;
+    }
+
+    protected void size(PizzaSize size) {
+        bits = CompactPizza.withSize(bits, size);
+    }
+
+    protected void crust(Crust crust) {
+        bits = CompactPizza.withCrust(bits, crust);
+    }
+
+    protected void topping(Topping topping) {
+        bits = CompactPizza.withTopping(bits, topping);
+    }
+
 }
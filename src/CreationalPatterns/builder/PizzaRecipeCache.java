@@ -0,0 +1,138 @@
+package CreationalPatterns.builder;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Memoizes the pizzas of deterministic builders, keyed by builder type and recipe key, and hands
+// out the shared immutable CompactPizza. Callers customise with CompactPizza.with(...), which
+// copies one long, or toPizza() for a mutable copy. Holds at most maxEntries recipes. Eviction is
+// approximately least recently used (CLOCK): a hit only sets the entry's referenced bit, without
+// locking, and a miss that overfills the cache sweeps the clock, giving referenced entries a
+// second chance and evicting the first unreferenced one.
+public class PizzaRecipeCache {
+    private final int maxEntries;
+    private final ConcurrentHashMap<RecipeKey, Entry> entries = new ConcurrentHashMap<>();
+    // Keys in insertion order, swept from the head; guarded by itself
+    private final ArrayDeque<RecipeKey> clock = new ArrayDeque<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private static final class Entry {
+        final CompactPizza pizza;
+        volatile boolean referenced;
+
+        Entry(CompactPizza pizza) {
+            this.pizza = pizza;
+        }
+    }
+
+    private static final class RecipeKey {
+        final Class<?> builderType;
+        final Object recipe;
+
+        RecipeKey(Class<?> builderType, Object recipe) {
+            this.builderType = builderType;
+            this.recipe = recipe;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof RecipeKey)) {
+                return false;
+            }
+            RecipeKey key = (RecipeKey) other;
+            return builderType == key.builderType && recipe.equals(key.recipe);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * builderType.hashCode() + recipe.hashCode();
+        }
+    }
+
+    public PizzaRecipeCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    // Returns the memoized pizza for the builder's recipe, building and storing it on a miss.
+    // Builders without a recipe key are built every time and not counted.
+    public CompactPizza get(PizzaBuilder builder) {
+        Object recipe = builder.recipeKey();
+        if (recipe == null) {
+            return ConcurrentWaiter.build(builder);
+        }
+        RecipeKey key = new RecipeKey(builder.getClass(), recipe);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hits.increment();
+            // Read before writing so hot entries don't keep dirtying a shared cache line
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.pizza;
+        }
+        misses.increment();
+        // A racing miss for the same recipe builds an equal pizza; the first one stored wins
+        Entry built = new Entry(ConcurrentWaiter.build(builder));
+        Entry existing = entries.putIfAbsent(key, built);
+        if (existing != null) {
+            return existing.pizza;
+        }
+        synchronized (clock) {
+            clock.addLast(key);
+            evictOverflow();
+        }
+        return built.pizza;
+    }
+
+    // Caller holds the clock lock
+    private void evictOverflow() {
+        while (entries.size() > maxEntries && !clock.isEmpty()) {
+            RecipeKey candidate = clock.pollFirst();
+            Entry entry = entries.get(candidate);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+                clock.addLast(candidate);
+            } else if (entries.remove(candidate, entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        synchronized (clock) {
+            entries.clear();
+            clock.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long hit = hits.sum(), total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+}
@@ -0,0 +1,16 @@
+package CreationalPatterns.builder;
+
+public enum PizzaSize {
+	SMALL("Small"), MEDIUM("Medium"), LARGE("Large");
+
+	private final String label;
+
+	PizzaSize(String label) {
+		this.label = label;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+}
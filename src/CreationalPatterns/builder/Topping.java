@@ -0,0 +1,19 @@
+package CreationalPatterns.builder;
+
+// Topping dictionary; a pizza stores its toppings as a bitset over these constants,
+// so there can be at most CompactPizza.MAX_TOPPINGS of them
+public enum Topping {
+	HAM("Ham"), PINEAPPLE("Pineapple"), MOZZARELLA("Mozzarella"), PEPPERONI("Pepperoni"),
+	MUSHROOM("Mushroom"), ONION("Onion"), OLIVE("Olive"), BASIL("Basil");
+
+	private final String label;
+
+	Topping(String label) {
+		this.label = label;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+}
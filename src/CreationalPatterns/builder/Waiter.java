@@ -12,6 +12,10 @@ public class Waiter {
         return pizzaBuilder.getPizza();
     }
 
+    public CompactPizza getCompactPizza() {
+        return pizzaBuilder.getCompactPizza();
+    }
+
     public void constructPizza() {
         pizzaBuilder.createNewPizzaProduct();
         pizzaBuilder.buildSize();
@@ -7,6 +7,36 @@ public class FactoryClient {
 
         Shape pentagon = ShapeFactory.getShape("Pentagon");
         pentagon.draw();
+
+        // Shapes registered at runtime are found the same way, in any letter case
+        ShapeRegistry registry = ShapeRegistry.getDefault();
+        registry.register(new ShapeProvider() {
+            @Override
+            public String name() {
+                return "Triangle";
+            }
+
+            @Override
+            public Shape create() {
+                return new Shape() {
+                    @Override
+                    void draw() {
+                        System.out.println("Drawing a Triangle...");
+                    }
+
+                    @Override
+                    int sides() {
+                        return 3;
+                    }
+                };
+            }
+        });
+        registry.get("TRIANGLE").draw();
+        try {
+            registry.get("Circle");
+        } catch (UnknownShapeException e) {
+            System.out.println(e.getMessage());
+        }
     }
 
 }
@@ -8,4 +8,9 @@ public class Hexagon extends Shape{
 		
 	}
 
+	@Override
+	int sides() {
+		return 6;
+	}
+
 }
@@ -0,0 +1,15 @@
+package CreationalPatterns.factory;
+
+public class HexagonProvider implements ShapeProvider {
+
+	@Override
+	public String name() {
+		return "Hexagon";
+	}
+
+	@Override
+	public Shape create() {
+		return new Hexagon();
+	}
+
+}
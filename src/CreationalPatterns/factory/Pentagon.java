@@ -8,4 +8,9 @@ public class Pentagon extends Shape{
 		
 	}
 
+	@Override
+	int sides() {
+		return 5;
+	}
+
 }
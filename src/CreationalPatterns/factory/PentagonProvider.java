@@ -0,0 +1,15 @@
+package CreationalPatterns.factory;
+
+public class PentagonProvider implements ShapeProvider {
+
+	@Override
+	public String name() {
+		return "Pentagon";
+	}
+
+	@Override
+	public Shape create() {
+		return new Pentagon();
+	}
+
+}
@@ -0,0 +1,18 @@
+package CreationalPatterns.factory;
+
+// A shared Shape placed in a scene: centre, circumradius and ARGB colour are kept outside the
+// shape so stateless shapes can stay singletons
+public class PlacedShape {
+	final Shape shape;
+	final float x, y, radius;
+	final int argb;
+
+	public PlacedShape(Shape shape, float x, float y, float radius, int argb) {
+		this.shape = shape;
+		this.x = x;
+		this.y = y;
+		this.radius = radius;
+		this.argb = argb;
+	}
+
+}
@@ -0,0 +1,67 @@
+package CreationalPatterns.factory;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+// In-memory ARGB pixel buffer, one int per pixel in row-major order
+public class RasterCanvas {
+	private final int width;
+	private final int height;
+	final int[] pixels;
+
+	public RasterCanvas(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.pixels = new int[width * height];
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public int getPixel(int x, int y) {
+		return pixels[y * width + x];
+	}
+
+	public void clear(int argb) {
+		Arrays.fill(pixels, argb);
+	}
+
+	// Binary PPM (P6); alpha is dropped
+	public void writePpm(Path file) throws IOException {
+		try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+			out.write(("P6\n" + width + " " + height + "\n255\n").getBytes(StandardCharsets.US_ASCII));
+			byte[] row = new byte[width * 3];
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					int argb = pixels[y * width + x];
+					row[x * 3] = (byte) (argb >>> 16);
+					row[x * 3 + 1] = (byte) (argb >>> 8);
+					row[x * 3 + 2] = (byte) argb;
+				}
+				out.write(row);
+			}
+		}
+	}
+
+	public void writePng(Path file) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		image.setRGB(0, 0, width, height, pixels, 0, width);
+		if (!ImageIO.write(image, "png", file.toFile())) {
+			throw new IOException("No PNG writer available");
+		}
+	}
+
+}
@@ -0,0 +1,52 @@
+package CreationalPatterns.factory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+// Renders a scene of 300k hexagons and pentagons with 1, 2, 4, ... up to all cores and reports
+// the best frame time for each, then writes the last frame to a PPM file (scene.ppm by default).
+public class RenderBenchmark {
+	private static final int SHAPES = 300_000;
+	private static final int WIDTH = 2048, HEIGHT = 2048;
+	private static final int FRAMES = 5;
+
+	public static void main(String[] args) throws IOException {
+		Path output = Paths.get(args.length > 0 ? args[0] : "scene.ppm");
+		ShapeRegistry registry = ShapeRegistry.getDefault();
+		Shape hexagon = registry.get("hexagon");
+		Shape pentagon = registry.get("pentagon");
+		Random random = new Random(5);
+		List<PlacedShape> scene = new ArrayList<>(SHAPES);
+		for (int i = 0; i < SHAPES; i++) {
+			scene.add(new PlacedShape(random.nextBoolean() ? hexagon : pentagon, random.nextFloat() * WIDTH,
+					random.nextFloat() * HEIGHT, 2 + random.nextFloat() * 10, 0xFF000000 | random.nextInt(0x1000000)));
+		}
+
+		RasterCanvas canvas = new RasterCanvas(WIDTH, HEIGHT);
+		int cores = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; ; threads = Math.min(cores, threads * 2)) {
+			ForkJoinPool pool = new ForkJoinPool(threads);
+			TiledRenderer renderer = new TiledRenderer(64, pool);
+			long best = Long.MAX_VALUE;
+			for (int frame = 0; frame < FRAMES; frame++) {
+				canvas.clear(0xFFFFFFFF);
+				long start = System.nanoTime();
+				renderer.render(scene, canvas);
+				best = Math.min(best, System.nanoTime() - start);
+			}
+			pool.shutdown();
+			System.out.printf("threads=%-3d frame %8.1f ms%n", threads, best / 1e6);
+			if (threads == cores) {
+				break;
+			}
+		}
+		canvas.writePpm(output);
+		System.out.println("Wrote " + output.toAbsolutePath());
+	}
+
+}
@@ -3,4 +3,9 @@ package CreationalPatterns.factory;
 public abstract class Shape {
 	abstract void draw();
 
+	// Sides of the regular polygon TiledRenderer rasterizes for this shape; 0 if it has no outline
+	int sides() {
+		return 0;
+	}
+
 }
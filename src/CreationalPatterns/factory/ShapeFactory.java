@@ -2,13 +2,10 @@ package CreationalPatterns.factory;
 
 //Factory class
 public class ShapeFactory {
+	// Kept for existing callers: null for unknown types. New code should use ShapeRegistry.get,
+	// which reports unknown names with UnknownShapeException.
 	static Shape getShape(String type) {
-        if ("Hexagon".equalsIgnoreCase(type)) {
-            return new Hexagon();
-        } else if ("Pentagon".equalsIgnoreCase(type)) {
-            return new Pentagon();
-        }
-        return null;
+        return ShapeRegistry.getDefault().getOrDefault(type, null);
     }
 
 }
@@ -0,0 +1,17 @@
+package CreationalPatterns.factory;
+
+// Supplies one kind of Shape to ShapeRegistry. Hexagon and Pentagon are built in; extra providers
+// are found with ServiceLoader through META-INF/services/CreationalPatterns.factory.ShapeProvider,
+// or registered at runtime.
+public interface ShapeProvider {
+	// Name the shape is looked up by, matched case-insensitively
+	String name();
+
+	Shape create();
+
+	// Stateless shapes are created once and the same instance handed out on every lookup
+	default boolean isStateless() {
+		return true;
+	}
+
+}
@@ -0,0 +1,144 @@
+package CreationalPatterns.factory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+// Resolves shape names through an open-addressing table with a case-insensitive hash, so a
+// lookup neither allocates nor walks a chain of comparisons. Names are case-folded one char at
+// a time by fold(), both when stored and when probed. Stateless shapes are created once
+// and shared. The table is rebuilt on registration and published as a whole, so lookups take
+// no lock; a later registration under an existing name replaces the earlier one.
+public class ShapeRegistry {
+	private final Map<String, ShapeProvider> providers = new LinkedHashMap<>();
+	private volatile Table table = new Table(new ShapeProvider[0]);
+
+	private static class DefaultHolder {
+		static final ShapeRegistry INSTANCE = ShapeRegistry.loadServices();
+	}
+
+	// Registry holding the built-in shapes and any extra ShapeProvider found by ServiceLoader
+	public static ShapeRegistry getDefault() {
+		return DefaultHolder.INSTANCE;
+	}
+
+	// Hexagon and Pentagon only; needs no resources on the class path
+	public static ShapeRegistry builtIns() {
+		ShapeRegistry registry = new ShapeRegistry();
+		registry.register(new HexagonProvider());
+		registry.register(new PentagonProvider());
+		return registry;
+	}
+
+	// Built-in shapes plus providers listed in META-INF/services, which may replace them by name
+	public static ShapeRegistry loadServices() {
+		ShapeRegistry registry = builtIns();
+		for (ShapeProvider provider : ServiceLoader.load(ShapeProvider.class)) {
+			registry.register(provider);
+		}
+		return registry;
+	}
+
+	public synchronized void register(ShapeProvider provider) {
+		providers.put(normalize(provider.name()), provider);
+		table = new Table(providers.values().toArray(new ShapeProvider[0]));
+	}
+
+	public Shape get(String name) {
+		Shape shape = table.find(name);
+		if (shape == null) {
+			throw new UnknownShapeException(name);
+		}
+		return shape;
+	}
+
+	public Shape getOrDefault(String name, Shape fallback) {
+		Shape shape = table.find(name);
+		return shape != null ? shape : fallback;
+	}
+
+	public boolean contains(String name) {
+		return table.slotOf(name) >= 0;
+	}
+
+	static char fold(char c) {
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	static String normalize(String name) {
+		char[] chars = name.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = fold(chars[i]);
+		}
+		return new String(chars);
+	}
+
+	static int hash(String name) {
+		int h = 0;
+		for (int i = 0; i < name.length(); i++) {
+			h = 31 * h + fold(name.charAt(i));
+		}
+		return h ^ (h >>> 16);
+	}
+
+	// True if name folds to the already normalized key
+	static boolean matches(String key, String name) {
+		if (key.length() != name.length()) {
+			return false;
+		}
+		for (int i = 0; i < key.length(); i++) {
+			if (key.charAt(i) != fold(name.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Immutable snapshot of the registered providers, at most half full
+	private static class Table {
+		private final int mask;
+		private final String[] names;
+		private final ShapeProvider[] providers;
+		private final Shape[] singletons;
+
+		Table(ShapeProvider[] registered) {
+			int capacity = Integer.highestOneBit(Math.max(2, registered.length * 2 - 1)) << 1;
+			mask = capacity - 1;
+			names = new String[capacity];
+			providers = new ShapeProvider[capacity];
+			singletons = new Shape[capacity];
+			for (ShapeProvider provider : registered) {
+				String name = normalize(provider.name());
+				int slot = hash(name) & mask;
+				while (names[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				names[slot] = name;
+				providers[slot] = provider;
+				singletons[slot] = provider.isStateless() ? provider.create() : null;
+			}
+		}
+
+		int slotOf(String name) {
+			if (name == null) {
+				return -1;
+			}
+			for (int slot = hash(name) & mask; names[slot] != null; slot = (slot + 1) & mask) {
+				if (matches(names[slot], name)) {
+					return slot;
+				}
+			}
+			return -1;
+		}
+
+		Shape find(String name) {
+			int slot = slotOf(name);
+			if (slot < 0) {
+				return null;
+			}
+			Shape shared = singletons[slot];
+			return shared != null ? shared : providers[slot].create();
+		}
+	}
+
+}
@@ -0,0 +1,161 @@
+package CreationalPatterns.factory;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Rasterizes placed shapes as filled regular polygons. Shapes are first binned into the square
+// tiles their bounding boxes touch; tiles are then filled in parallel on a ForkJoinPool, each
+// drawing its shapes in scene order, so no two threads ever write the same pixel.
+public class TiledRenderer {
+	private static final int MAX_SIDES = 16;
+
+	private final int tileSize;
+	private final ForkJoinPool pool;
+
+	public TiledRenderer(int tileSize, ForkJoinPool pool) {
+		this.tileSize = tileSize;
+		this.pool = pool;
+	}
+
+	public void render(List<PlacedShape> scene, RasterCanvas canvas) {
+		int tilesX = (canvas.getWidth() + tileSize - 1) / tileSize;
+		int tilesY = (canvas.getHeight() + tileSize - 1) / tileSize;
+		Scene prepared = new Scene(scene, canvas, tilesX, tilesY);
+		pool.invoke(new TileTask(prepared, canvas, 0, tilesX * tilesY));
+	}
+
+	// Polygon edge equations, pixel bounding boxes and per-tile shape lists (compressed rows)
+	private class Scene {
+		final int tilesX;
+		final float[] edgeA, edgeB, edgeC;
+		final int[] sides, colours;
+		final int[] minX, minY, maxX, maxY;
+		final int[] binStarts, bins;
+
+		Scene(List<PlacedShape> scene, RasterCanvas canvas, int tilesX, int tilesY) {
+			this.tilesX = tilesX;
+			int n = scene.size();
+			edgeA = new float[n * MAX_SIDES];
+			edgeB = new float[n * MAX_SIDES];
+			edgeC = new float[n * MAX_SIDES];
+			float[] vx = new float[MAX_SIDES], vy = new float[MAX_SIDES];
+			sides = new int[n];
+			colours = new int[n];
+			minX = new int[n];
+			minY = new int[n];
+			maxX = new int[n];
+			maxY = new int[n];
+			int[] counts = new int[tilesX * tilesY + 1];
+			for (int i = 0; i < n; i++) {
+				PlacedShape placed = scene.get(i);
+				int k = Math.min(placed.shape.sides(), MAX_SIDES);
+				sides[i] = k;
+				colours[i] = placed.argb;
+				for (int v = 0; v < k; v++) {
+					double angle = 2 * Math.PI * v / k - Math.PI / 2;
+					vx[v] = placed.x + placed.radius * (float) Math.cos(angle);
+					vy[v] = placed.y + placed.radius * (float) Math.sin(angle);
+				}
+				// Vertices run clockwise on screen, so a point is inside when A*x + B*y + C >= 0 for every edge
+				for (int v = 0; v < k; v++) {
+					int w = (v + 1) % k;
+					edgeA[i * MAX_SIDES + v] = vy[v] - vy[w];
+					edgeB[i * MAX_SIDES + v] = vx[w] - vx[v];
+					edgeC[i * MAX_SIDES + v] = vx[v] * vy[w] - vy[v] * vx[w];
+				}
+				minX[i] = Math.max(0, (int) Math.floor(placed.x - placed.radius));
+				minY[i] = Math.max(0, (int) Math.floor(placed.y - placed.radius));
+				maxX[i] = Math.min(canvas.getWidth() - 1, (int) Math.ceil(placed.x + placed.radius));
+				maxY[i] = Math.min(canvas.getHeight() - 1, (int) Math.ceil(placed.y + placed.radius));
+				if (k < 3 || minX[i] > maxX[i] || minY[i] > maxY[i]) {
+					sides[i] = 0;
+					continue;
+				}
+				for (int ty = minY[i] / tileSize; ty <= maxY[i] / tileSize; ty++) {
+					for (int tx = minX[i] / tileSize; tx <= maxX[i] / tileSize; tx++) {
+						counts[ty * tilesX + tx + 1]++;
+					}
+				}
+			}
+			for (int t = 0; t < tilesX * tilesY; t++) {
+				counts[t + 1] += counts[t];
+			}
+			binStarts = counts.clone();
+			bins = new int[counts[tilesX * tilesY]];
+			// Filled in scene order, so each bin lists its shapes back to front
+			for (int i = 0; i < n; i++) {
+				if (sides[i] == 0) {
+					continue;
+				}
+				for (int ty = minY[i] / tileSize; ty <= maxY[i] / tileSize; ty++) {
+					for (int tx = minX[i] / tileSize; tx <= maxX[i] / tileSize; tx++) {
+						bins[counts[ty * tilesX + tx]++] = i;
+					}
+				}
+			}
+		}
+	}
+
+	private class TileTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private static final int TILES_PER_TASK = 4;
+		private final Scene scene;
+		private final RasterCanvas canvas;
+		private final int from, to;
+
+		TileTask(Scene scene, RasterCanvas canvas, int from, int to) {
+			this.scene = scene;
+			this.canvas = canvas;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > TILES_PER_TASK) {
+				int mid = (from + to) >>> 1;
+				invokeAll(new TileTask(scene, canvas, from, mid), new TileTask(scene, canvas, mid, to));
+				return;
+			}
+			for (int tile = from; tile < to; tile++) {
+				renderTile(tile);
+			}
+		}
+
+		private void renderTile(int tile) {
+			int tileX0 = (tile % scene.tilesX) * tileSize;
+			int tileY0 = (tile / scene.tilesX) * tileSize;
+			int tileX1 = Math.min(canvas.getWidth() - 1, tileX0 + tileSize - 1);
+			int tileY1 = Math.min(canvas.getHeight() - 1, tileY0 + tileSize - 1);
+			int width = canvas.getWidth();
+			int[] pixels = canvas.pixels;
+			for (int b = scene.binStarts[tile]; b < scene.binStarts[tile + 1]; b++) {
+				int i = scene.bins[b];
+				int x0 = Math.max(tileX0, scene.minX[i]), x1 = Math.min(tileX1, scene.maxX[i]);
+				int y0 = Math.max(tileY0, scene.minY[i]), y1 = Math.min(tileY1, scene.maxY[i]);
+				int k = scene.sides[i];
+				int base = i * MAX_SIDES;
+				int colour = scene.colours[i];
+				for (int y = y0; y <= y1; y++) {
+					float py = y + 0.5f;
+					for (int x = x0; x <= x1; x++) {
+						if (inside(scene, base, k, x + 0.5f, py)) {
+							pixels[y * width + x] = colour;
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private boolean inside(Scene scene, int base, int k, float px, float py) {
+		for (int e = base; e < base + k; e++) {
+			if (scene.edgeA[e] * px + scene.edgeB[e] * py + scene.edgeC[e] < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
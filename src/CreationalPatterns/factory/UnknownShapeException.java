@@ -0,0 +1,17 @@
+package CreationalPatterns.factory;
+
+// Thrown by ShapeRegistry when no provider is registered under the requested name
+public class UnknownShapeException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+	private final String shapeName;
+
+	public UnknownShapeException(String shapeName) {
+		super("No shape registered as '" + shapeName + "'");
+		this.shapeName = shapeName;
+	}
+
+	public String getShapeName() {
+		return shapeName;
+	}
+
+}
@@ -11,6 +11,7 @@ class BasicCar extends Car {
  @Override
  public void customize(String color, String accessories) {
      this.color = color;
+     this.accessories = accessories;
      System.out.println("Car customized with color: " + color + " and accessories: " + accessories);
  }
 }
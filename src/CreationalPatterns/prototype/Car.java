@@ -1,21 +1,75 @@
 package CreationalPatterns.prototype;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+// Clones are shallow and copy-on-write: a clone shares the attribute map of the car it was
+// cloned from until either side changes an attribute, at which point only that side copies it.
+// model, color and accessories are immutable strings, so sharing them needs no copy at all.
 public abstract class Car implements Cloneable{
 	protected String model;
     protected String color;
+    protected String accessories;
+    private Map<String, String> attributes = Collections.emptyMap();
+    // The empty map is immutable, so it counts as shared too
+    private boolean attributesShared = true;
 
     public abstract void customize(String color, String accessories);
 
+    public String getModel() {
+        return model;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public String getAccessories() {
+        return accessories;
+    }
+
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    public void setAttribute(String name, String value) {
+        if (attributesShared) {
+            attributes = new HashMap<>(attributes);
+            attributesShared = false;
+        }
+        attributes.put(name, value);
+    }
+
+    public void removeAttribute(String name) {
+        if (!attributes.containsKey(name)) {
+            return;
+        }
+        if (attributesShared) {
+            attributes = new HashMap<>(attributes);
+            attributesShared = false;
+        }
+        attributes.remove(name);
+    }
+
+    // Car is Cloneable, so super.clone() cannot fail; an exception here means a subclass broke that
     @Override
-    public Object clone() {
-        Object clone;
+    public Car clone() {
         try {
-            clone = super.clone();
+            Car clone = (Car) super.clone();
+            if (!attributesShared) {
+                // Checked first so cloning a shared prototype from many threads doesn't write to it
+                attributesShared = true;
+            }
+            clone.attributesShared = true;
+            return clone;
         } catch (CloneNotSupportedException e) {
-            e.printStackTrace();
-            return null;
+            throw new AssertionError(getClass().getName() + " must stay Cloneable", e);
         }
-        return clone;
     }
 
 }
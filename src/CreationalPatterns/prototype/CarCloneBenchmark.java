@@ -0,0 +1,74 @@
+package CreationalPatterns.prototype;
+
+// Nanoseconds per car for building a configured car from scratch, cloning the prototype
+// directly, creating it through CarRegistry, and cloning then changing one attribute (the point
+// where copy-on-write pays for its copy), for prototypes carrying 4 to 256 attributes
+public class CarCloneBenchmark {
+    private static final int[] ATTRIBUTE_COUNTS = { 4, 32, 256 };
+    private static final int CARS = 2_000_000;
+    private static final int ROUNDS = 5;
+
+    private interface Maker {
+        Car make();
+    }
+
+    private static final Car[] retained = new Car[1024];
+
+    public static void main(String[] args) {
+        for (int attributes : ATTRIBUTE_COUNTS) {
+            String[] names = new String[attributes];
+            String[] values = new String[attributes];
+            for (int i = 0; i < attributes; i++) {
+                names[i] = "option" + i;
+                values[i] = "value" + i;
+            }
+            Car prototype = new BasicCar();
+            for (int i = 0; i < attributes; i++) {
+                prototype.setAttribute(names[i], values[i]);
+            }
+            CarRegistry registry = new CarRegistry();
+            registry.register(prototype);
+
+            Maker fromScratch = () -> {
+                Car car = new BasicCar();
+                for (int i = 0; i < names.length; i++) {
+                    car.setAttribute(names[i], values[i]);
+                }
+                return car;
+            };
+            Maker rawClone = prototype::clone;
+            Maker registryClone = () -> registry.create("Basic");
+            Maker cloneAndSet = () -> {
+                Car car = registry.create("Basic");
+                car.setAttribute("option0", "changed");
+                return car;
+            };
+
+            System.out.printf("attributes=%d%n", attributes);
+            report("new BasicCar()", fromScratch, attributes);
+            report("clone()", rawClone, attributes);
+            report("registry create", registryClone, attributes);
+            report("create + setAttribute", cloneAndSet, attributes);
+        }
+    }
+
+    private static void report(String label, Maker maker, int attributes) {
+        // Fewer cars for the strategies that copy every attribute, so each run takes similar time
+        int cars = Math.max(50_000, CARS / Math.max(1, attributes / 4));
+        run(maker, cars);
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            best = Math.min(best, run(maker, cars));
+        }
+        System.out.printf("  %-22s %10.1f ns/car%n", label, best);
+    }
+
+    private static double run(Maker maker, int cars) {
+        long start = System.nanoTime();
+        for (int i = 0; i < cars; i++) {
+            retained[i & (retained.length - 1)] = maker.make();
+        }
+        return (double) (System.nanoTime() - start) / cars;
+    }
+
+}
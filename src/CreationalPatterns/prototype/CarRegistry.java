@@ -0,0 +1,39 @@
+package CreationalPatterns.prototype;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Prototypes keyed by model. The registry keeps its own clone of each registered car, so later
+// changes to the caller's instance don't leak into cars created afterwards, and every car it
+// hands out is a copy-on-write clone of that private prototype.
+public class CarRegistry {
+	private final ConcurrentHashMap<String, Car> prototypes = new ConcurrentHashMap<>();
+
+	public void register(Car prototype) {
+		prototypes.put(prototype.getModel(), prototype.clone());
+	}
+
+	public Car create(String model) {
+		Car prototype = prototypes.get(model);
+		if (prototype == null) {
+			throw new UnknownModelException(model);
+		}
+		return prototype.clone();
+	}
+
+	// Clone of the registered model with color and accessories changed; its attributes stay shared
+	public Car create(String model, String color, String accessories) {
+		Car car = create(model);
+		car.customize(color, accessories);
+		return car;
+	}
+
+	public boolean contains(String model) {
+		return prototypes.containsKey(model);
+	}
+
+	public Set<String> models() {
+		return prototypes.keySet();
+	}
+
+}
@@ -0,0 +1,62 @@
+package CreationalPatterns.prototype;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Interns strings as dense 16-bit codes. Fleets repeat a handful of colors and models millions
+// of times, so each car stores a code and the table keeps the one copy of each string.
+class CodeTable {
+	static final int MAX_CODES = 1 << 16;
+
+	private final Map<String, Integer> codes = new HashMap<>();
+	private final List<String> values = new ArrayList<>();
+	private String lastValue;
+	private short lastCode;
+
+	CodeTable() {
+		// Code 0 is reserved for null
+		values.add(null);
+	}
+
+	short codeOf(String value) {
+		if (value == null) {
+			return 0;
+		}
+		// Bulk stamping usually repeats the same instance, which skips the map lookup
+		if (value == lastValue) {
+			return lastCode;
+		}
+		Integer code = codes.get(value);
+		if (code == null) {
+			if (values.size() == MAX_CODES) {
+				throw new IllegalStateException("More than " + (MAX_CODES - 1) + " distinct values");
+			}
+			code = values.size();
+			codes.put(value, code);
+			values.add(value);
+		}
+		lastValue = value;
+		lastCode = (short) (int) code;
+		return lastCode;
+	}
+
+	// Code of an already interned value, or -1; never adds to the table
+	int lookup(String value) {
+		if (value == null) {
+			return 0;
+		}
+		Integer code = codes.get(value);
+		return code != null ? code : -1;
+	}
+
+	String valueOf(short code) {
+		return values.get(code & 0xFFFF);
+	}
+
+	int size() {
+		return values.size() - 1;
+	}
+
+}
@@ -0,0 +1,58 @@
+package CreationalPatterns.prototype;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Heap per car and stamping time for a fleet of 2 million customized cars, kept as one cloned
+// Car per vehicle versus packed into a FleetStore
+public class FleetMemoryBenchmark {
+    private static final int CARS = 2_000_000;
+    private static final String[] COLORS = { "Red", "Blue", "Black", "Silver", "Green", "White", "Grey", "Orange" };
+    private static final String[] ACCESSORIES = { "Sunroof", "Roof rack", "Tow bar", null };
+
+    public static void main(String[] args) {
+        CarRegistry registry = new CarRegistry();
+        registry.register(new BasicCar());
+        registry.register(new SportsCar());
+
+        long before = usedHeap();
+        long start = System.nanoTime();
+        List<Car> clones = new ArrayList<>(CARS);
+        for (int i = 0; i < CARS; i++) {
+            Car car = registry.create((i & 1) == 0 ? "Basic" : "Sports");
+            // Set directly rather than through customize(), which prints for every car
+            car.color = COLORS[i % COLORS.length];
+            car.accessories = ACCESSORIES[i % ACCESSORIES.length];
+            clones.add(car);
+        }
+        long cloneNanos = System.nanoTime() - start;
+        long cloneBytes = usedHeap() - before;
+        System.out.printf("object per clone %6.1f bytes/car %8.1f ms%n", (double) cloneBytes / CARS, cloneNanos / 1e6);
+        System.out.println("  kept " + clones.size() + " cars");
+        clones = null;
+
+        before = usedHeap();
+        start = System.nanoTime();
+        FleetStore fleet = new FleetStore(registry);
+        fleet.stamp("Basic", CARS / 2, i -> COLORS[(2 * i) % COLORS.length], i -> ACCESSORIES[(2 * i) % ACCESSORIES.length]);
+        fleet.stamp("Sports", CARS / 2, i -> COLORS[(2 * i + 1) % COLORS.length], i -> ACCESSORIES[(2 * i + 1) % ACCESSORIES.length]);
+        long fleetNanos = System.nanoTime() - start;
+        long fleetBytes = usedHeap() - before;
+        System.out.printf("FleetStore       %6.1f bytes/car %8.1f ms (columns %.1f bytes/car)%n", (double) fleetBytes / CARS,
+                fleetNanos / 1e6, (double) fleet.columnBytes() / CARS);
+
+        Car view = fleet.get(3);
+        System.out.println("  car 3: " + view.getModel() + " in " + view.getColor() + " with " + view.getAccessories()
+                + " " + view.getAttributes());
+        System.out.println("  red cars: " + fleet.countColor("Red") + " of " + fleet.size());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
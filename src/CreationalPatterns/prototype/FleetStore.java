@@ -0,0 +1,149 @@
+package CreationalPatterns.prototype;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+// Columnar store for large fleets stamped out of CarRegistry prototypes. Each car is three
+// 16-bit codes (model, color, accessories) in parallel arrays; attributes are never copied
+// per car, they stay with the model's prototype. Car objects exist only when get() is called.
+public class FleetStore {
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private final CarRegistry registry;
+	private final CodeTable models = new CodeTable();
+	private final CodeTable colors = new CodeTable();
+	private final CodeTable accessories = new CodeTable();
+	// Prototype per model code, cloned once from the registry
+	private Car[] prototypes = new Car[8];
+	private short[] modelCodes = new short[INITIAL_CAPACITY];
+	private short[] colorCodes = new short[INITIAL_CAPACITY];
+	private short[] accessoryCodes = new short[INITIAL_CAPACITY];
+	private int size;
+
+	public FleetStore(CarRegistry registry) {
+		this.registry = registry;
+	}
+
+	// Adds count cars of the given model; car i of the batch gets color.apply(i) and
+	// accessories.apply(i), or the prototype's value where the function returns null.
+	// Returns the index of the first car added.
+	public int stamp(String model, int count, IntFunction<String> color, IntFunction<String> accessories) {
+		if (count < 0) {
+			throw new IllegalArgumentException("Negative car count: " + count);
+		}
+		Car prototype = prototypeOf(model);
+		short modelCode = models.codeOf(model);
+		short defaultColor = colors.codeOf(prototype.getColor());
+		short defaultAccessories = this.accessories.codeOf(prototype.getAccessories());
+		ensureCapacity(size + count);
+		int first = size;
+		for (int i = 0; i < count; i++) {
+			String c = color.apply(i);
+			String a = accessories.apply(i);
+			modelCodes[first + i] = modelCode;
+			colorCodes[first + i] = c != null ? colors.codeOf(c) : defaultColor;
+			accessoryCodes[first + i] = a != null ? this.accessories.codeOf(a) : defaultAccessories;
+		}
+		size += count;
+		return first;
+	}
+
+	// Adds count identical cars of the given model, customized once
+	public int stamp(String model, int count, String color, String accessories) {
+		return stamp(model, count, i -> color, i -> accessories);
+	}
+
+	// Detached Car for one entry: a copy-on-write clone of the model's prototype, so it shares the
+	// prototype's attributes; changing it does not change the store
+	public Car get(int index) {
+		checkIndex(index);
+		Car car = prototypes[modelCodes[index] & 0xFFFF].clone();
+		car.color = colors.valueOf(colorCodes[index]);
+		car.accessories = accessories.valueOf(accessoryCodes[index]);
+		return car;
+	}
+
+	public String getModel(int index) {
+		checkIndex(index);
+		return models.valueOf(modelCodes[index]);
+	}
+
+	public String getColor(int index) {
+		checkIndex(index);
+		return colors.valueOf(colorCodes[index]);
+	}
+
+	public String getAccessories(int index) {
+		checkIndex(index);
+		return accessories.valueOf(accessoryCodes[index]);
+	}
+
+	public void setColor(int index, String color) {
+		checkIndex(index);
+		colorCodes[index] = colors.codeOf(color);
+	}
+
+	// Number of cars per color, counted over the code column without building any Car
+	public int countColor(String color) {
+		int found = colors.lookup(color);
+		if (found < 0) {
+			return 0;
+		}
+		short code = (short) found;
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			if (colorCodes[i] == code) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int distinctColors() {
+		return colors.size();
+	}
+
+	// Bytes held by the per-car columns; the code tables and prototypes are shared overhead
+	public long columnBytes() {
+		return (long) modelCodes.length * Short.BYTES * 3;
+	}
+
+	private Car prototypeOf(String model) {
+		if (!registry.contains(model)) {
+			throw new UnknownModelException(model);
+		}
+		short code = models.codeOf(model);
+		int slot = code & 0xFFFF;
+		if (slot >= prototypes.length) {
+			prototypes = Arrays.copyOf(prototypes, Math.max(slot + 1, prototypes.length * 2));
+		}
+		if (prototypes[slot] == null) {
+			prototypes[slot] = registry.create(model);
+		}
+		return prototypes[slot];
+	}
+
+	private void ensureCapacity(int required) {
+		if (required < 0) {
+			throw new IllegalArgumentException("Fleet larger than " + Integer.MAX_VALUE + " cars");
+		}
+		if (required <= modelCodes.length) {
+			return;
+		}
+		int capacity = Math.max(required, (int) Math.min(Integer.MAX_VALUE - 8, modelCodes.length * 2L));
+		modelCodes = Arrays.copyOf(modelCodes, capacity);
+		colorCodes = Arrays.copyOf(colorCodes, capacity);
+		accessoryCodes = Arrays.copyOf(accessoryCodes, capacity);
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Car " + index + " of " + size);
+		}
+	}
+
+}
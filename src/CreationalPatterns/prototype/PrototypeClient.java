@@ -4,10 +4,26 @@ public class PrototypeClient {
 
 	public static void main(String[] args) {
 		Car basicCar = new BasicCar();
-        Car customerCar = (Car) basicCar.clone();
+        Car customerCar = basicCar.clone();
         
         customerCar.customize("Red", "Sunroof");
 
+        CarRegistry registry = new CarRegistry();
+        registry.register(basicCar);
+        registry.register(new SportsCar());
+
+        Car first = registry.create("Sports", "Red", "Roof rack");
+        Car second = registry.create("Sports");
+        second.setAttribute("wheels", "20in forged");
+        System.out.println(first.getModel() + " in " + first.getColor() + " with " + first.getAttributes());
+        System.out.println(second.getModel() + " in " + second.getColor() + " with " + second.getAttributes());
+
+        try {
+            registry.create("Convertible");
+        } catch (UnknownModelException e) {
+            System.out.println(e.getMessage());
+        }
+
 	}
 
 }
@@ -0,0 +1,20 @@
+package CreationalPatterns.prototype;
+
+//Concrete Car with a factory-fitted specification
+class SportsCar extends Car {
+
+ public SportsCar() {
+     model = "Sports";
+     color = "Yellow";
+     setAttribute("engine", "3.0L V6");
+     setAttribute("transmission", "7-speed dual clutch");
+     setAttribute("wheels", "19in alloy");
+ }
+
+ @Override
+ public void customize(String color, String accessories) {
+     this.color = color;
+     this.accessories = accessories;
+     System.out.println("Sports car customized with color: " + color + " and accessories: " + accessories);
+ }
+}
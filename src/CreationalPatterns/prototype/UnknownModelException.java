@@ -0,0 +1,17 @@
+package CreationalPatterns.prototype;
+
+// Thrown by CarRegistry when no prototype is registered under the requested model
+public class UnknownModelException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+	private final String model;
+
+	public UnknownModelException(String model) {
+		super("No prototype registered for model '" + model + "'");
+		this.model = model;
+	}
+
+	public String getModel() {
+		return model;
+	}
+
+}
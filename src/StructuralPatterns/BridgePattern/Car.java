@@ -1,6 +1,9 @@
 package StructuralPatterns.BridgePattern;
 
 public class Car extends Vehicle {
+	private static final float FORCE = 4000f;
+	private static final float MASS = 1200f;
+	private static final float DRAG = 0.0009f;
 
 	public Car(Transmission transmission) {
 		super(transmission);
@@ -12,4 +15,16 @@ public class Car extends Vehicle {
 		
 	}
 
+	@Override
+	float acceleration(float ratio, float throttle, float speed) {
+		return throttle * ratio * FORCE / MASS - DRAG * speed * speed;
+	}
+
+	@Override
+	void accelerateAll(float[] speeds, float[] ratios, float[] throttles, int from, int to, float dt) {
+		for (int i = from; i < to; i++) {
+			speeds[i] = Math.max(0f, speeds[i] + acceleration(ratios[i], throttles[i], speeds[i]) * dt);
+		}
+	}
+
 }
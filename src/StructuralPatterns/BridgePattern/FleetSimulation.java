@@ -0,0 +1,184 @@
+package StructuralPatterns.BridgePattern;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Tick-based simulation for large mixed fleets. Vehicles are grouped by their (vehicle class,
+// transmission class) pair and their state is copied into per-group primitive columns. A tick
+// hands whole runs of a group to shiftAll()/accelerateAll(), one virtual call per run rather
+// than per vehicle, and advances the runs in parallel on a ForkJoinPool. Each concrete class
+// overrides those two methods with its own copy of the loop, so the JIT profiles every copy
+// separately and the shift()/ratio()/acceleration() calls inside stay monomorphic however many
+// vehicle and transmission classes the fleet mixes. Vehicles of one class
+// must behave the same for the same state, which holds for every Vehicle and Transmission here.
+// A vehicle belongs to at most one simulation; Vehicle.setThrottle writes through to its column
+// but must not be called while a tick is running.
+public class FleetSimulation {
+	private static final int RUN_LENGTH = 8192;
+
+	private final ForkJoinPool pool;
+	private final Map<Class<?>, Map<Class<?>, Group>> groups = new IdentityHashMap<>();
+	private final List<Group> groupList = new ArrayList<>();
+	private Run[] runs;
+	private int size;
+
+	public FleetSimulation(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	public void add(Vehicle vehicle) {
+		if (vehicle.group != null) {
+			throw new IllegalStateException("Vehicle is already in a simulation");
+		}
+		Group group = groups.computeIfAbsent(vehicle.getClass(), c -> new LinkedHashMap<>())
+				.computeIfAbsent(vehicle.getTransmission().getClass(), c -> {
+					Group created = new Group(vehicle);
+					groupList.add(created);
+					return created;
+				});
+		group.add(vehicle);
+		size++;
+		runs = null;
+	}
+
+	public void tick(float dt) {
+		if (runs == null) {
+			runs = splitRuns();
+		}
+		pool.invoke(new RunTask(runs, 0, runs.length, dt));
+	}
+
+	public void run(int ticks, float dt) {
+		for (int t = 0; t < ticks; t++) {
+			tick(dt);
+		}
+	}
+
+	// Copies the simulated state back into the Vehicle objects
+	public void sync() {
+		for (Group group : groupList) {
+			group.sync();
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int groupCount() {
+		return groupList.size();
+	}
+
+	private Run[] splitRuns() {
+		List<Run> split = new ArrayList<>();
+		for (Group group : groupList) {
+			for (int from = 0; from < group.size; from += RUN_LENGTH) {
+				split.add(new Run(group, from, Math.min(group.size, from + RUN_LENGTH)));
+			}
+		}
+		return split.toArray(new Run[0]);
+	}
+
+	// Columns for every vehicle sharing one (vehicle class, transmission class) pair
+	static class Group {
+		// Representatives whose class code is run for the whole group
+		final Vehicle vehicle;
+		final Transmission transmission;
+		Vehicle[] members = new Vehicle[16];
+		float[] speeds = new float[16];
+		float[] throttles = new float[16];
+		float[] ratios = new float[16];
+		int[] gears = new int[16];
+		double[] odometers = new double[16];
+		int size;
+
+		Group(Vehicle representative) {
+			this.vehicle = representative;
+			this.transmission = representative.getTransmission();
+		}
+
+		void add(Vehicle v) {
+			if (size == members.length) {
+				int capacity = size * 2;
+				members = Arrays.copyOf(members, capacity);
+				speeds = Arrays.copyOf(speeds, capacity);
+				throttles = Arrays.copyOf(throttles, capacity);
+				ratios = Arrays.copyOf(ratios, capacity);
+				gears = Arrays.copyOf(gears, capacity);
+				odometers = Arrays.copyOf(odometers, capacity);
+			}
+			members[size] = v;
+			speeds[size] = v.speed;
+			throttles[size] = v.throttle;
+			gears[size] = v.gear;
+			odometers[size] = v.odometer;
+			v.group = this;
+			v.groupIndex = size;
+			size++;
+		}
+
+		void sync() {
+			for (int i = 0; i < size; i++) {
+				Vehicle v = members[i];
+				v.speed = speeds[i];
+				v.gear = gears[i];
+				v.odometer = odometers[i];
+			}
+		}
+	}
+
+	private static class Run {
+		final Group group;
+		final int from, to;
+
+		Run(Group group, int from, int to) {
+			this.group = group;
+			this.from = from;
+			this.to = to;
+		}
+
+		void advance(float dt) {
+			Group g = group;
+			g.transmission.shiftAll(g.gears, g.speeds, g.ratios, from, to);
+			g.vehicle.accelerateAll(g.speeds, g.ratios, g.throttles, from, to, dt);
+			float[] speeds = g.speeds;
+			double[] odometers = g.odometers;
+			for (int i = from; i < to; i++) {
+				odometers[i] += speeds[i] * dt;
+			}
+		}
+	}
+
+	private static class RunTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final Run[] runs;
+		private final int from, to;
+		private final float dt;
+
+		RunTask(Run[] runs, int from, int to, float dt) {
+			this.runs = runs;
+			this.from = from;
+			this.to = to;
+			this.dt = dt;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > 1) {
+				int mid = (from + to) >>> 1;
+				invokeAll(new RunTask(runs, from, mid, dt), new RunTask(runs, mid, to, dt));
+				return;
+			}
+			for (int r = from; r < to; r++) {
+				runs[r].advance(dt);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,144 @@
+package StructuralPatterns.BridgePattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+// Vehicle-ticks per second for a shuffled fleet of Car/Truck x Manual/Automatic, advanced one
+// vehicle at a time through Vehicle.advance() and by FleetSimulation at 1 to all cores, then
+// again with a Van and a CVT added so the per-vehicle call sites see three receiver types. Both
+// runs of a fleet start from the same state and must end with the same total distance.
+public class FleetSimulationBenchmark {
+	private static final int VEHICLES = 2_000_000;
+	private static final int TICKS = 100;
+	private static final float DT = 0.1f;
+
+	static class Van extends Vehicle {
+		Van(Transmission transmission) {
+			super(transmission);
+		}
+
+		@Override
+		void applyTransmission() {
+			transmission.applyGear();
+		}
+
+		@Override
+		float acceleration(float ratio, float throttle, float speed) {
+			return throttle * ratio * 9000f / 3000f - 0.0011f * speed * speed;
+		}
+
+		@Override
+		void accelerateAll(float[] speeds, float[] ratios, float[] throttles, int from, int to, float dt) {
+			for (int i = from; i < to; i++) {
+				speeds[i] = Math.max(0f, speeds[i] + acceleration(ratios[i], throttles[i], speeds[i]) * dt);
+			}
+		}
+	}
+
+	// Continuously variable: one ratio per whole 4 m/s of speed
+	static class CvtTransmission implements Transmission {
+		@Override
+		public void applyGear() {
+			System.out.println("CVT Applied");
+		}
+
+		@Override
+		public int shift(int gear, float speed) {
+			return Math.min(8, 1 + (int) (speed / 4f));
+		}
+
+		@Override
+		public float ratio(int gear) {
+			return 4.0f / gear;
+		}
+
+		@Override
+		public void shiftAll(int[] gears, float[] speeds, float[] ratios, int from, int to) {
+			for (int i = from; i < to; i++) {
+				gears[i] = shift(gears[i], speeds[i]);
+				ratios[i] = ratio(gears[i]);
+			}
+		}
+	}
+
+	public static void main(String[] args) {
+		System.out.println("Car/Truck x Manual/Automatic");
+		run(2);
+		System.out.println("Car/Truck/Van x Manual/Automatic/CVT");
+		run(3);
+	}
+
+	private static void run(int kinds) {
+		List<Vehicle> naive = fleet(kinds);
+		for (int t = 0; t < TICKS / 10; t++) {
+			naiveTick(naive);
+		}
+		naive = fleet(kinds);
+		long start = System.nanoTime();
+		for (int t = 0; t < TICKS; t++) {
+			naiveTick(naive);
+		}
+		report("per-vehicle", start, distance(naive));
+
+		int cores = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; ; threads = Math.min(cores, threads * 2)) {
+			ForkJoinPool pool = new ForkJoinPool(threads);
+			FleetSimulation warmup = new FleetSimulation(pool);
+			fleet(kinds).forEach(warmup::add);
+			warmup.run(TICKS / 10, DT);
+
+			List<Vehicle> vehicles = fleet(kinds);
+			FleetSimulation simulation = new FleetSimulation(pool);
+			vehicles.forEach(simulation::add);
+			start = System.nanoTime();
+			simulation.run(TICKS, DT);
+			long end = System.nanoTime();
+			simulation.sync();
+			pool.shutdown();
+			report("grouped threads=" + threads, start, end, distance(vehicles));
+			if (threads == cores) {
+				break;
+			}
+		}
+	}
+
+	private static List<Vehicle> fleet(int kinds) {
+		Transmission[] transmissions = { new ManualTransmission(), new AutomaticTransmission(), new CvtTransmission() };
+		Random random = new Random(25);
+		List<Vehicle> vehicles = new ArrayList<>(VEHICLES);
+		for (int i = 0; i < VEHICLES; i++) {
+			Transmission transmission = transmissions[random.nextInt(kinds)];
+			int kind = random.nextInt(kinds);
+			Vehicle vehicle = kind == 0 ? new Car(transmission) : kind == 1 ? new Truck(transmission) : new Van(transmission);
+			vehicle.setThrottle(0.2f + random.nextFloat() * 0.8f);
+			vehicles.add(vehicle);
+		}
+		return vehicles;
+	}
+
+	private static void naiveTick(List<Vehicle> vehicles) {
+		for (Vehicle vehicle : vehicles) {
+			vehicle.advance(DT);
+		}
+	}
+
+	private static double distance(List<Vehicle> vehicles) {
+		double total = 0;
+		for (Vehicle vehicle : vehicles) {
+			total += vehicle.getOdometer();
+		}
+		return total;
+	}
+
+	private static void report(String label, long start, double distance) {
+		report(label, start, System.nanoTime(), distance);
+	}
+
+	private static void report(String label, long start, long end, double distance) {
+		System.out.printf("%-20s %,15.0f vehicle-ticks/s  total distance %.6e m%n", label,
+				(double) VEHICLES * TICKS * 1e9 / (end - start), distance);
+	}
+
+}
@@ -1,10 +1,34 @@
 package StructuralPatterns.BridgePattern;
 
 public class ManualTransmission implements Transmission{
+	private static final float[] RATIOS = { 3.5f, 2.1f, 1.4f, 1.0f, 0.8f };
 
 	public void applyGear() {
 		System.out.println("Manual Transmission Applied");
 		
 	}
 
+	// Driver holds each gear longer before changing up
+	public int shift(int gear, float speed) {
+		if (gear < RATIOS.length && speed > gear * 8.0f) {
+			return gear + 1;
+		}
+		if (gear > 1 && speed < (gear - 1) * 5.0f) {
+			return gear - 1;
+		}
+		return gear;
+	}
+
+	public float ratio(int gear) {
+		return RATIOS[gear - 1];
+	}
+
+	@Override
+	public void shiftAll(int[] gears, float[] speeds, float[] ratios, int from, int to) {
+		for (int i = from; i < to; i++) {
+			gears[i] = shift(gears[i], speeds[i]);
+			ratios[i] = ratio(gears[i]);
+		}
+	}
+
 }
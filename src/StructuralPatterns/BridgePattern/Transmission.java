@@ -4,4 +4,17 @@ public interface Transmission {
 
 	void applyGear();
 
+	// Gear to drive in at the given speed (m/s), starting from the current gear
+	int shift(int gear, float speed);
+
+	float ratio(int gear);
+
+	// Shifts a run of vehicles using this transmission and stores each one's new gear ratio
+	default void shiftAll(int[] gears, float[] speeds, float[] ratios, int from, int to) {
+		for (int i = from; i < to; i++) {
+			gears[i] = shift(gears[i], speeds[i]);
+			ratios[i] = ratio(gears[i]);
+		}
+	}
+
 }
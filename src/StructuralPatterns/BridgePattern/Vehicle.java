@@ -2,6 +2,14 @@ package StructuralPatterns.BridgePattern;
 
 public abstract class Vehicle {
 	protected Transmission transmission;
+	// Driving state advanced by advance() or by FleetSimulation
+	float speed;
+	int gear = 1;
+	float throttle;
+	double odometer;
+	// Set once the vehicle is added to a FleetSimulation, which then holds its state in columns
+	FleetSimulation.Group group;
+	int groupIndex;
 	
 
 	public Vehicle(Transmission transmission) {
@@ -10,4 +18,44 @@ public abstract class Vehicle {
 
 	abstract void applyTransmission();
 
+	// Acceleration (m/s^2) at the given gear ratio, throttle (0..1) and speed
+	abstract float acceleration(float ratio, float throttle, float speed);
+
+	// Advances a run of vehicles that all share this vehicle's class by dt seconds
+	void accelerateAll(float[] speeds, float[] ratios, float[] throttles, int from, int to, float dt) {
+		for (int i = from; i < to; i++) {
+			speeds[i] = Math.max(0f, speeds[i] + acceleration(ratios[i], throttles[i], speeds[i]) * dt);
+		}
+	}
+
+	// One simulation step for this vehicle alone
+	public void advance(float dt) {
+		gear = transmission.shift(gear, speed);
+		speed = Math.max(0f, speed + acceleration(transmission.ratio(gear), throttle, speed) * dt);
+		odometer += speed * dt;
+	}
+
+	public Transmission getTransmission() {
+		return transmission;
+	}
+
+	public float getSpeed() {
+		return speed;
+	}
+
+	public int getGear() {
+		return gear;
+	}
+
+	public double getOdometer() {
+		return odometer;
+	}
+
+	public void setThrottle(float throttle) {
+		this.throttle = throttle;
+		if (group != null) {
+			group.throttles[groupIndex] = throttle;
+		}
+	}
+
 }